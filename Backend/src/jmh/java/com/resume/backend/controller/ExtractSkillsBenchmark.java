@@ -0,0 +1,56 @@
+package com.resume.backend.controller;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ResumeController#extractSkills} on request bodies of increasing size, with the nulls, blanks and
+ * untrimmed entries a browser form produces.
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.args="ExtractSkills"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExtractSkillsBenchmark {
+
+    @Param({"5", "50", "500"})
+    public int skillCount;
+
+    private Map<String, Object> requestBody;
+
+    @Setup
+    public void setUp() {
+        List<Object> skills = new ArrayList<>(skillCount);
+        for (int i = 0; i < skillCount; i++) {
+            switch (i % 5) {
+                case 0 -> skills.add(null);
+                case 1 -> skills.add("   ");
+                case 2 -> skills.add("  Spring Boot " + i + " ");
+                default -> skills.add("Java " + i);
+            }
+        }
+        requestBody = Map.of("skills", skills);
+    }
+
+    @Benchmark
+    public List<String> extractSkills() {
+        return ResumeController.extractSkills(requestBody);
+    }
+}
@@ -0,0 +1,94 @@
+package com.resume.backend.entity;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson binding of {@link Resume} in both directions, as done for POST /resume/save bodies and
+ * GET /resume/{id} responses. Uses the same module set Spring registers (JSR-310 for the timestamps).
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.args="ResumeJson -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResumeJsonBenchmark {
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private Resume resume;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        writer = objectMapper.writerFor(Resume.class);
+        reader = objectMapper.readerFor(Resume.class);
+        resume = sampleResume();
+        json = writer.writeValueAsBytes(resume);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return writer.writeValueAsBytes(resume);
+    }
+
+    @Benchmark
+    public Resume deserialize() throws IOException {
+        return reader.readValue(json);
+    }
+
+    private static Resume sampleResume() {
+        Resume resume = new Resume();
+        resume.setId(42L);
+        resume.setUserEmail("bench@example.com");
+        resume.setJobDescription("Senior backend engineer, Java and Spring Boot, distributed systems.");
+        resume.setJobTitle("Software Engineer");
+        resume.setFullName("Benchmark User");
+        resume.setEmail("bench@example.com");
+        resume.setPhone("+91 98765 43210");
+        resume.setLocation("Bengaluru, India");
+        resume.setSummary("Backend engineer with five years of experience building Spring Boot services on MySQL "
+                + "and Kafka, focused on latency and reliability.");
+        resume.setCoverLetter("Dear hiring manager, ".repeat(40));
+        resume.setSkills(new ArrayList<>(List.of("Java", "Spring Boot", "MySQL", "Docker", "Kafka", "Redis",
+                "Kubernetes", "AWS", "React", "Git")));
+        List<ResumeExperience> experience = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ResumeExperience item = new ResumeExperience();
+            item.setCompany("Company " + i);
+            item.setPosition("Software Engineer");
+            item.setDuration("2019 - 2021");
+            experience.add(item);
+        }
+        resume.setExperience(experience);
+        ResumeEducation education = new ResumeEducation();
+        education.setDegree("B.Tech Computer Science");
+        education.setUniversity("VIT");
+        education.setGraduationYear("2019");
+        resume.setEducation(new ArrayList<>(List.of(education)));
+        resume.setProjects(new ArrayList<>(List.of("Resume builder with AI generation", "Realtime chat on WebSockets")));
+        resume.setCreatedAt(LocalDateTime.of(2024, 1, 15, 10, 30));
+        resume.setUpdatedAt(LocalDateTime.of(2024, 2, 1, 9, 0));
+        return resume;
+    }
+}
@@ -0,0 +1,61 @@
+package com.resume.backend.llm;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resume.backend.dto.GeneratedResume;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the old completion handling (strip markdown fences, bind to a Map) with
+ * {@link LlmJsonExtractor} binding the same recorded completion straight to {@link GeneratedResume}.
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.args="CompletionParsing -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompletionParsingBenchmark {
+
+    private ObjectMapper objectMapper;
+    private LlmJsonExtractor extractor;
+    private String completion;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = new ObjectMapper();
+        extractor = new LlmJsonExtractor(objectMapper);
+        try (InputStream in = getClass().getResourceAsStream("/completions/resume.txt")) {
+            completion = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> legacyReplaceAndMap() throws IOException {
+        String cleaned = completion.replace("```json", "").replace("```", "").trim();
+        int start = cleaned.indexOf('{');
+        int end = cleaned.lastIndexOf('}');
+        return objectMapper.readValue(cleaned.substring(start, end + 1), Map.class);
+    }
+
+    @Benchmark
+    public GeneratedResume extractTyped() {
+        return extractor.extract(completion, GeneratedResume.class);
+    }
+}
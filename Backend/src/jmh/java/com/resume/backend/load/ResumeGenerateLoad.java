@@ -0,0 +1,284 @@
+package com.resume.backend.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resume.backend.ResumeAiBackendApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.SimpleCommandLinePropertySource;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop load scenario for POST /api/v1/resume/generate: N users each send the next request as soon as
+ * the previous one returns, for a fixed duration after a warm-up. Reports throughput, status counts and
+ * p50/p95/p99/max latency, and writes them as JSON.
+ * <p>
+ * Without --load.target the application is started in-process on H2, with app.groq.api-url pointed at a
+ * second in-process instance that only serves the Groq stub (on virtual threads and its own database), so
+ * a run needs no network or API key and stub calls never compete with /generate for request threads.
+ * Any other --key=value argument is passed to both, e.g. --app.groq.stub.latency-p99=5s or
+ * --app.groq.stub.throttle-rate=0.05.
+ * <p>
+ * --load.users takes a comma-separated ramp (e.g. 100,400,1600) and --load.modes=platform,virtual starts
+ * the application once per app.threads.virtual mode; each run records peak heap and live threads, and
+ * the report names the largest user count each mode sustained (under 1% errors and p99 within
+ * --load.max-p99). A mode's ramp stops at its first step that is not sustained, and the result file is
+ * rewritten after every step. The heap is whatever -Xmx the JVM was given (load.jvm.args in the benchmark
+ * profile) and is shared with the stub and the load generator, the same for every mode.
+ * Run with: mvn -Pbenchmark test-compile exec:exec@load -Dload.args="--load.users=50 --load.duration=60s"
+ */
+public final class ResumeGenerateLoad {
+
+    private static final String DESCRIPTION =
+            "Backend engineer #%d with five years of Java, Spring Boot and MySQL. Led a Kafka migration, "
+                    + "mentored two juniors and cut p99 latency of the orders API by 40%%.";
+
+    private ResumeGenerateLoad() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        SimpleCommandLinePropertySource options = new SimpleCommandLinePropertySource(args);
+        int[] userRamp = Arrays.stream(option(options, "load.users", "20").split(","))
+                .map(String::trim).mapToInt(Integer::parseInt).toArray();
+        Duration warmup = DurationStyle.detectAndParse(option(options, "load.warmup", "5s"));
+        Duration duration = DurationStyle.detectAndParse(option(options, "load.duration", "30s"));
+        Duration maxP99 = DurationStyle.detectAndParse(option(options, "load.max-p99", "10s"));
+        boolean uniqueDescriptions = Boolean.parseBoolean(option(options, "load.unique-descriptions", "true"));
+        Path resultFile = Paths.get(option(options, "load.result", "target/load-result.json"));
+        String target = options.getProperty("load.target");
+        String modes = options.getProperty("load.modes");
+        if (target != null && modes != null) {
+            throw new IllegalArgumentException("--load.modes needs the in-process application; drop --load.target");
+        }
+
+        List<Map<String, Object>> runs = new ArrayList<>();
+        Map<String, Integer> sustained = new LinkedHashMap<>();
+        ConfigurableApplicationContext stub = null;
+        String stubUrl = null;
+        if (target == null) {
+            int stubPort = freePort();
+            stub = startStub(args, stubPort);
+            stubUrl = "http://localhost:" + stubPort + "/openai/v1/chat/completions";
+        }
+        try {
+            for (String mode : modes == null ? List.of("configured") : List.of(modes.split(","))) {
+                ConfigurableApplicationContext context = null;
+                String baseUrl = target;
+                if (baseUrl == null) {
+                    int port = freePort();
+                    context = start(args, port, stubUrl, Arrays.stream(userRamp).max().orElse(1), mode.trim());
+                    baseUrl = "http://localhost:" + port;
+                }
+                try {
+                    for (int users : userRamp) {
+                        Map<String, Object> report = drive(URI.create(baseUrl + "/api/v1/resume/generate"), users,
+                                warmup, duration, uniqueDescriptions);
+                        report.put("mode", mode.trim());
+                        boolean ok = sustains(report, maxP99);
+                        report.put("sustained", ok);
+                        System.out.println(new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(report));
+                        runs.add(report);
+                        if (ok) {
+                            sustained.merge(mode.trim(), users, Math::max);
+                        }
+                        writeResult(resultFile, maxP99, sustained, runs);
+                        if (!ok) {
+                            break;
+                        }
+                    }
+                } finally {
+                    if (context != null) {
+                        context.close();
+                    }
+                }
+            }
+        } finally {
+            if (stub != null) {
+                stub.close();
+            }
+        }
+        System.out.println("Max sustained users per mode: " + sustained);
+        System.out.println("Result saved to " + resultFile);
+    }
+
+    private static void writeResult(Path resultFile, Duration maxP99, Map<String, Integer> sustained,
+                                    List<Map<String, Object>> runs) throws IOException {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("scenario", "POST /api/v1/resume/generate");
+        result.put("maxHeapMb", Runtime.getRuntime().maxMemory() / (1024 * 1024));
+        result.put("maxP99Ms", maxP99.toMillis());
+        result.put("maxSustainedUsers", sustained);
+        result.put("runs", runs);
+        if (resultFile.getParent() != null) {
+            Files.createDirectories(resultFile.getParent());
+        }
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(resultFile.toFile(), result);
+    }
+
+    private static ConfigurableApplicationContext startStub(String[] args, int port) {
+        return new SpringApplicationBuilder(ResumeAiBackendApplication.class)
+                .properties(
+                        "server.port=" + port,
+                        "spring.datasource.url=jdbc:h2:mem:groqstub;DB_CLOSE_DELAY=-1",
+                        "app.groq.stub.enabled=true",
+                        "app.threads.virtual=true",
+                        "app.db.warmup.enabled=false",
+                        "logging.level.root=WARN")
+                .run(args);
+    }
+
+    private static ConfigurableApplicationContext start(String[] args, int port, String stubUrl, int maxUsers,
+                                                        String mode) {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(ResumeAiBackendApplication.class)
+                .properties(
+                        "server.port=" + port,
+                        "app.groq.api-url=" + stubUrl,
+                        "app.groq.rate.requests-per-minute=1000000",
+                        "app.groq.rate.tokens-per-minute=1000000000",
+                        "app.groq.concurrency.initial=" + maxUsers,
+                        "app.groq.concurrency.max=" + Math.max(32, maxUsers),
+                        "app.http.max-total=" + 2 * maxUsers,
+                        "app.http.max-per-route=" + 2 * maxUsers,
+                        "app.db.warmup.enabled=false",
+                        "logging.level.root=WARN");
+        if (!"configured".equals(mode)) {
+            builder.properties("app.threads.virtual=" + "virtual".equals(mode));
+        }
+        return builder.run(args);
+    }
+
+    private static Map<String, Object> drive(URI uri, int users, Duration warmup, Duration duration,
+                                             boolean uniqueDescriptions) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+        AtomicLong sequence = new AtomicLong();
+
+        System.out.printf("Driving %s with %d users: %s warm-up, %s measured%n", uri, users, warmup, duration);
+        System.gc();
+        ManagementFactory.getMemoryPoolMXBeans().forEach(MemoryPoolMXBean::resetPeakUsage);
+        ManagementFactory.getThreadMXBean().resetPeakThreadCount();
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long measureUntil = measureFrom + duration.toNanos();
+
+        ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor();
+        for (int user = 0; user < users; user++) {
+            pool.execute(() -> {
+                while (System.nanoTime() < measureUntil) {
+                    long n = uniqueDescriptions ? sequence.incrementAndGet() : 0;
+                    HttpRequest request = HttpRequest.newBuilder(uri)
+                            .timeout(Duration.ofMinutes(2))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(
+                                    "{\"userDescription\":\"" + DESCRIPTION.formatted(n) + "\"}"))
+                            .build();
+                    long started = System.nanoTime();
+                    String outcome;
+                    try {
+                        outcome = String.valueOf(client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode());
+                    } catch (IOException e) {
+                        outcome = e.getClass().getSimpleName();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    long finished = System.nanoTime();
+                    if (started >= measureFrom && finished <= measureUntil) {
+                        latencies.add(finished - started);
+                        outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+                    }
+                }
+            });
+        }
+        pool.shutdown();
+        pool.awaitTermination(warmup.plus(duration).plusMinutes(5).toMillis(), TimeUnit.MILLISECONDS);
+
+        Map<String, Object> report = report(users, duration, latencies, outcomes);
+        long peakHeap = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(memoryPool -> memoryPool.getType() == MemoryType.HEAP)
+                .mapToLong(memoryPool -> memoryPool.getPeakUsage().getUsed())
+                .sum();
+        report.put("peakHeapMb", peakHeap / (1024 * 1024));
+        report.put("peakLiveThreads", ManagementFactory.getThreadMXBean().getPeakThreadCount());
+        return report;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static boolean sustains(Map<String, Object> report, Duration maxP99) {
+        long requests = ((Number) report.get("requests")).longValue();
+        long ok = ((Map<String, Long>) report.get("statuses")).getOrDefault("200", 0L);
+        double p99 = (Double) ((Map<String, Object>) report.get("latencyMs")).get("p99");
+        return requests > 0 && ok >= requests * 0.99 && p99 <= maxP99.toMillis();
+    }
+
+    private static Map<String, Object> report(int users, Duration duration, ConcurrentLinkedQueue<Long> latencies,
+                                              Map<String, LongAdder> outcomes) {
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(sorted);
+
+        Map<String, Long> statuses = new TreeMap<>();
+        outcomes.forEach((outcome, count) -> statuses.put(outcome, count.sum()));
+
+        Map<String, Object> latencyMs = new LinkedHashMap<>();
+        latencyMs.put("p50", percentileMillis(sorted, 0.50));
+        latencyMs.put("p95", percentileMillis(sorted, 0.95));
+        latencyMs.put("p99", percentileMillis(sorted, 0.99));
+        latencyMs.put("max", sorted.length == 0 ? 0.0 : sorted[sorted.length - 1] / 1_000_000.0);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("scenario", "POST /api/v1/resume/generate");
+        report.put("users", users);
+        report.put("durationSeconds", duration.toMillis() / 1000.0);
+        report.put("requests", sorted.length);
+        report.put("throughputPerSecond", sorted.length / (duration.toMillis() / 1000.0));
+        report.put("statuses", statuses);
+        report.put("latencyMs", latencyMs);
+        return report;
+    }
+
+    // Nearest-rank percentile over all measured requests, errors included.
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int rank = (int) Math.ceil(percentile * sorted.length);
+        return sorted[Math.max(0, rank - 1)] / 1_000_000.0;
+    }
+
+    private static String option(SimpleCommandLinePropertySource options, String name, String defaultValue) {
+        String value = options.getProperty(name);
+        return value == null ? defaultValue : value;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
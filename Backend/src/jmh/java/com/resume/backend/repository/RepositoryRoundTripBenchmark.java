@@ -0,0 +1,138 @@
+package com.resume.backend.repository;
+
+import com.resume.backend.ResumeAiBackendApplication;
+import com.resume.backend.auth.entity.AuthUser;
+import com.resume.backend.auth.repository.AuthUserRepository;
+import com.resume.backend.entity.Resume;
+import com.resume.backend.entity.ResumeEducation;
+import com.resume.backend.entity.ResumeExperience;
+import org.hibernate.Hibernate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Repository reads the API performs, straight against the repositories (no resume cache) on in-memory H2:
+ * a full resume with its four section tables, the first listing page, and the user lookup behind login.
+ * Measures the JPA/Hibernate overhead per round trip; network latency to the real database is not included.
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.args="RepositoryRoundTrip"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepositoryRoundTripBenchmark {
+
+    private static final int USERS = 20;
+    private static final int RESUMES_PER_USER = 25;
+
+    private ConfigurableApplicationContext context;
+    private ResumeRepository resumeRepository;
+    private AuthUserRepository authUserRepository;
+    private TransactionTemplate readOnly;
+    private List<Long> resumeIds;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = new SpringApplicationBuilder(ResumeAiBackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:repobench;DB_CLOSE_DELAY=-1",
+                        "app.db.slow-query-threshold=1h",
+                        "logging.level.root=WARN")
+                .run();
+        resumeRepository = context.getBean(ResumeRepository.class);
+        authUserRepository = context.getBean(AuthUserRepository.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+
+        List<Resume> resumes = new ArrayList<>();
+        for (int u = 0; u < USERS; u++) {
+            AuthUser user = new AuthUser();
+            user.setName("Bench User " + u);
+            user.setEmail(email(u));
+            user.setProvider("local");
+            authUserRepository.save(user);
+            for (int r = 0; r < RESUMES_PER_USER; r++) {
+                resumes.add(sampleResume(u, r));
+            }
+        }
+        resumeIds = resumeRepository.saveAll(resumes).stream().map(Resume::getId).toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+
+    @Benchmark
+    public Resume findResumeWithSections() {
+        Long id = resumeIds.get(ThreadLocalRandom.current().nextInt(resumeIds.size()));
+        return readOnly.execute(status -> {
+            Resume resume = resumeRepository.findById(id).orElseThrow();
+            Hibernate.initialize(resume.getSkills());
+            Hibernate.initialize(resume.getExperience());
+            Hibernate.initialize(resume.getEducation());
+            Hibernate.initialize(resume.getProjects());
+            return resume;
+        });
+    }
+
+    @Benchmark
+    public List<ResumeSummary> firstListingPage() {
+        String email = email(ThreadLocalRandom.current().nextInt(USERS));
+        return resumeRepository.findByUserEmailOrderByCreatedAtDescIdDesc(email, PageRequest.of(0, 21));
+    }
+
+    @Benchmark
+    public Optional<AuthUser> loginLookup() {
+        return authUserRepository.findByEmailIgnoreCase(email(ThreadLocalRandom.current().nextInt(USERS)).toUpperCase());
+    }
+
+    private static String email(int user) {
+        return "bench" + user + "@example.com";
+    }
+
+    private static Resume sampleResume(int user, int index) {
+        Resume resume = new Resume();
+        resume.setUserEmail(email(user));
+        resume.setFullName("Bench User " + user);
+        resume.setSummary("Backend engineer with experience in Java, Spring Boot and MySQL.");
+        resume.setSkills(new ArrayList<>(List.of("Java", "Spring Boot", "MySQL", "Docker", "Kafka")));
+        ResumeExperience experience = new ResumeExperience();
+        experience.setCompany("Acme " + index);
+        experience.setPosition("Software Engineer");
+        experience.setDuration("2021 - Present");
+        resume.setExperience(new ArrayList<>(List.of(experience)));
+        ResumeEducation education = new ResumeEducation();
+        education.setDegree("B.Tech");
+        education.setUniversity("VIT");
+        education.setGraduationYear("2020");
+        resume.setEducation(new ArrayList<>(List.of(education)));
+        resume.setProjects(new ArrayList<>(List.of("Resume builder")));
+        return resume;
+    }
+}
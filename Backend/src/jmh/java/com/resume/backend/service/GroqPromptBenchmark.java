@@ -0,0 +1,80 @@
+package com.resume.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resume.backend.llm.GroqRateLimiter;
+import com.resume.backend.llm.LlmJsonExtractor;
+import com.resume.backend.llm.LlmResponseCache;
+import com.resume.backend.llm.PromptTemplates;
+import com.resume.backend.llm.RenderedPrompt;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request-side work GroqService does before every call: rendering the resume prompt template, deriving the
+ * response-cache key from it and serializing the chat completion body. Response parsing is measured
+ * by CompletionParsingBenchmark.
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.args="GroqPrompt"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GroqPromptBenchmark {
+
+    @Param({"200", "4000"})
+    public int descriptionLength;
+
+    private GroqService groqService;
+    private LlmResponseCache responseCache;
+    private ObjectMapper objectMapper;
+    private String description;
+    private RenderedPrompt prompt;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        responseCache = new LlmResponseCache(objectMapper, meterRegistry, 500, Duration.ofHours(6), "", 0);
+        GroqRateLimiter rateLimiter = new GroqRateLimiter(meterRegistry, 30, 12000, Duration.ofSeconds(30),
+                4, 1, 32, 0.7, Duration.ofSeconds(20));
+        groqService = new GroqService(new RestTemplate(), objectMapper, responseCache, rateLimiter,
+                new LlmJsonExtractor(objectMapper), new PromptTemplates("classpath:prompts/", false, Duration.ZERO),
+                meterRegistry, "http://localhost/openai/v1/chat/completions", "llama-3.3-70b-versatile", 131072);
+
+        String sentence = "Backend engineer with five years of Java, Spring Boot and MySQL; led a Kafka migration. ";
+        description = sentence.repeat(descriptionLength / sentence.length() + 1).substring(0, descriptionLength);
+        prompt = groqService.buildResumePrompt(description);
+    }
+
+    @Benchmark
+    public RenderedPrompt buildPrompt() {
+        return groqService.buildResumePrompt(description);
+    }
+
+    @Benchmark
+    public String cacheKey() {
+        return responseCache.key("llama-3.3-70b-versatile", prompt.templateId(), prompt.text(), 0.7, 2048);
+    }
+
+    @Benchmark
+    public String requestBody() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(groqService.completionRequest(prompt.text(), 0.7, 2048));
+    }
+}
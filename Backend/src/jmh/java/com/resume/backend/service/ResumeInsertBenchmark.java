@@ -0,0 +1,100 @@
+package com.resume.backend.service;
+
+import com.resume.backend.ResumeAiBackendApplication;
+import com.resume.backend.entity.Resume;
+import com.resume.backend.entity.ResumeEducation;
+import com.resume.backend.entity.ResumeExperience;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resume insert throughput through ResumeService against in-memory H2, one resume per call versus
+ * POST /resume/save/batch-sized lists. Scores are resumes per second in both cases. H2 in memory makes a
+ * round trip nearly free, so the gap against a remote MySQL is larger than measured here.
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.args="ResumeInsert"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResumeInsertBenchmark {
+
+    private static final int BATCH = 50;
+
+    private ConfigurableApplicationContext context;
+    private ResumeService resumeService;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = new SpringApplicationBuilder(ResumeAiBackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:insertbench;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+                        "spring.jpa.properties.hibernate.order_inserts=true",
+                        "logging.level.root=WARN")
+                .run();
+        resumeService = context.getBean(ResumeService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+
+    @Benchmark
+    public Resume saveOne() {
+        return resumeService.saveResume(sampleResume(0));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public List<Resume> saveBatch() {
+        List<Resume> resumes = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            resumes.add(sampleResume(i));
+        }
+        return resumeService.saveResumes(resumes);
+    }
+
+    private static Resume sampleResume(int i) {
+        Resume resume = new Resume();
+        resume.setUserEmail("bench" + (i % 10) + "@example.com");
+        resume.setFullName("Benchmark User " + i);
+        resume.setSummary("Backend engineer with experience in Java, Spring Boot and MySQL.");
+        resume.setSkills(new ArrayList<>(List.of("Java", "Spring Boot", "MySQL", "Docker", "Kafka")));
+        ResumeExperience experience = new ResumeExperience();
+        experience.setCompany("Acme");
+        experience.setPosition("Software Engineer");
+        experience.setDuration("2021 - Present");
+        resume.setExperience(new ArrayList<>(List.of(experience)));
+        ResumeEducation education = new ResumeEducation();
+        education.setDegree("B.Tech");
+        education.setUniversity("VIT");
+        education.setGraduationYear("2020");
+        resume.setEducation(new ArrayList<>(List.of(education)));
+        resume.setProjects(new ArrayList<>(List.of("Resume builder")));
+        return resume;
+    }
+}
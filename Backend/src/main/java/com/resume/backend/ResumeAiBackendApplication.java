@@ -2,11 +2,15 @@ package com.resume.backend;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 
 @SpringBootApplication
 public class ResumeAiBackendApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(ResumeAiBackendApplication.class, args);
+		SpringApplication application = new SpringApplication(ResumeAiBackendApplication.class);
+		// Keeps startup steps for /actuator/startup and the slowest-steps log line
+		application.setApplicationStartup(new BufferingApplicationStartup(4096));
+		application.run(args);
 	}
 }
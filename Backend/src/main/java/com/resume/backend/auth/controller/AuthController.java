@@ -1,9 +1,15 @@
 package com.resume.backend.auth.controller;
 
+import com.resume.backend.auth.service.AuthRateLimiter;
 import com.resume.backend.auth.service.AuthService;
+import com.resume.backend.auth.service.RateLimitExceededException;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
 import java.util.Map;
 
 @RestController
@@ -12,53 +18,121 @@ import java.util.Map;
 public class AuthController {
 
     private final AuthService authService;
+    private final AuthRateLimiter rateLimiter;
 
-    public AuthController(AuthService authService) {
+    public AuthController(AuthService authService, AuthRateLimiter rateLimiter) {
         this.authService = authService;
+        this.rateLimiter = rateLimiter;
     }
 
     @PostMapping("/signup")
-    public ResponseEntity<?> signup(@RequestBody Map<String, String> body) {
+    public ResponseEntity<?> signup(@RequestBody Map<String, String> body, HttpServletRequest request) {
         try {
+            rateLimiter.acquire("signup", request.getRemoteAddr(), body.get("email"));
             return ResponseEntity.ok(authService.signup(body.get("name"), body.get("email"), body.get("password")));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        } catch (TaskRejectedException e) {
+            return hashingBusy();
+        } catch (RateLimitExceededException e) {
+            return rateLimited(e);
         }
     }
 
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody Map<String, String> body) {
+    public ResponseEntity<?> login(@RequestBody Map<String, String> body, HttpServletRequest request) {
+        String email = body.get("email");
         try {
-            return ResponseEntity.ok(authService.login(body.get("email"), body.get("password")));
+            rateLimiter.acquire("login", request.getRemoteAddr(), email);
+            Map<String, Object> response = authService.login(email, body.get("password"));
+            rateLimiter.recordSuccess("login", email);
+            return ResponseEntity.ok(response);
         } catch (IllegalArgumentException e) {
+            rateLimiter.recordFailure("login", email);
             return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        } catch (TaskRejectedException e) {
+            return hashingBusy();
+        } catch (RateLimitExceededException e) {
+            return rateLimited(e);
         }
     }
 
     @PostMapping("/forgot-password")
-    public ResponseEntity<?> forgotPassword(@RequestBody Map<String, String> body) {
+    public ResponseEntity<?> forgotPassword(@RequestBody Map<String, String> body, HttpServletRequest request) {
         try {
+            rateLimiter.acquire("forgot-password", request.getRemoteAddr(), body.get("email"));
             return ResponseEntity.ok(authService.forgotPassword(body.get("email")));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        } catch (RateLimitExceededException e) {
+            return rateLimited(e);
         }
     }
 
     @PostMapping("/reset-password")
-    public ResponseEntity<?> resetPassword(@RequestBody Map<String, String> body) {
+    public ResponseEntity<?> resetPassword(@RequestBody Map<String, String> body, HttpServletRequest request) {
+        String email = body.get("email");
         try {
-            return ResponseEntity.ok(authService.resetPassword(body.get("email"), body.get("code"), body.get("newPassword")));
+            rateLimiter.acquire("reset-password", request.getRemoteAddr(), email);
+            Map<String, Object> response = authService.resetPassword(email, body.get("code"), body.get("newPassword"));
+            rateLimiter.recordSuccess("reset-password", email);
+            return ResponseEntity.ok(response);
         } catch (IllegalArgumentException e) {
+            // Wrong codes count towards the lockout, so the 6-digit code cannot be walked through.
+            rateLimiter.recordFailure("reset-password", email);
             return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        } catch (TaskRejectedException e) {
+            return hashingBusy();
+        } catch (RateLimitExceededException e) {
+            return rateLimited(e);
         }
     }
 
+    // Google and refresh calls carry no email before verification, so only the client IP is counted.
     @PostMapping("/google")
-    public ResponseEntity<?> google(@RequestBody Map<String, String> body) {
+    public ResponseEntity<?> google(@RequestBody Map<String, String> body, HttpServletRequest request) {
         try {
+            rateLimiter.acquire("google", request.getRemoteAddr(), null);
             return ResponseEntity.ok(authService.loginWithGoogle(body.get("idToken")));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        } catch (RateLimitExceededException e) {
+            return rateLimited(e);
         }
     }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refresh(@RequestBody Map<String, String> body, HttpServletRequest request) {
+        try {
+            rateLimiter.acquire("refresh", request.getRemoteAddr(), null);
+            return ResponseEntity.ok(authService.refresh(body.get("refreshToken")));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("message", e.getMessage()));
+        } catch (RateLimitExceededException e) {
+            return rateLimited(e);
+        }
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<?> logout(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            @RequestBody(required = false) Map<String, String> body
+    ) {
+        String accessToken = authorization != null && authorization.startsWith("Bearer ")
+                ? authorization.substring("Bearer ".length())
+                : null;
+        return ResponseEntity.ok(authService.logout(accessToken, body == null ? null : body.get("refreshToken")));
+    }
+
+    private ResponseEntity<Map<String, Object>> hashingBusy() {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header("Retry-After", "1")
+                .body(Map.of("message", "Too many sign-in attempts right now. Try again shortly."));
+    }
+
+    private ResponseEntity<Map<String, Object>> rateLimited(RateLimitExceededException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header("Retry-After", String.valueOf(e.getRetryAfterSeconds()))
+                .body(Map.of("message", e.getMessage()));
+    }
 }
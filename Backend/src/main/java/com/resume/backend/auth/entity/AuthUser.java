@@ -10,7 +10,8 @@ import java.time.LocalDateTime;
 public class AuthUser {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "auth_user_id_seq")
+    @SequenceGenerator(name = "auth_user_id_seq", sequenceName = "auth_users_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "name", nullable = false, length = 150)
@@ -0,0 +1,27 @@
+package com.resume.backend.auth.repository;
+
+import com.resume.backend.auth.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+
+    // Check and revoke in one statement: of two concurrent refreshes with the same token, only one deletes the row.
+    @Modifying
+    @Query("delete from RefreshToken t where t.id = :id and t.userId = :userId and t.expiresAt > :now")
+    int consume(@Param("id") String id, @Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("delete from RefreshToken t where t.userId = :userId")
+    int deleteByUser(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("delete from RefreshToken t where t.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
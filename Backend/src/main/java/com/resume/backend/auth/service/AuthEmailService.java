@@ -1,25 +1,35 @@
 package com.resume.backend.auth.service;
 
+import com.resume.backend.mail.OutboundMailQueue;
 import org.springframework.beans.factory.ObjectProvider;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+
+/**
+ * Composes account mail and hands it to the outbound queue; the SMTP round trip happens later in
+ * {@link com.resume.backend.mail.OutboundMailDispatcher}.
+ */
 @Service
 public class AuthEmailService {
 
-    private final JavaMailSender mailSender;
+    static final String RESET_CODE = "reset-code";
 
-    @Value("${app.auth.mail-from:noreply@airesumebuilder.com}")
-    private String fromEmail;
+    private final OutboundMailQueue mailQueue;
+    private final boolean mailConfigured;
 
-    public AuthEmailService(ObjectProvider<JavaMailSender> mailSenderProvider) {
-        this.mailSender = mailSenderProvider.getIfAvailable();
+    public AuthEmailService(OutboundMailQueue mailQueue, ObjectProvider<JavaMailSender> mailSenderProvider) {
+        this.mailQueue = mailQueue;
+        this.mailConfigured = mailSenderProvider.getIfAvailable() != null;
     }
 
-    public void sendResetCodeEmail(String toEmail, String name, String resetCode) {
-        if (mailSender == null) {
+    /**
+     * Queues the reset code in the caller's transaction, replacing any unsent older code. The mail is not
+     * sent or retried after the code itself expires.
+     */
+    public void queueResetCodeEmail(String toEmail, String name, String resetCode, LocalDateTime codeExpiry) {
+        if (!mailConfigured) {
             throw new IllegalStateException("Mail service is not configured. Set spring.mail.* properties.");
         }
 
@@ -33,12 +43,6 @@ public class AuthEmailService {
                 + "If you did not request this, please ignore this email.\n\n"
                 + "- AI Resume Builder";
 
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setFrom(fromEmail);
-        message.setTo(toEmail);
-        message.setSubject(subject);
-        message.setText(body);
-
-        mailSender.send(message);
+        mailQueue.replace(RESET_CODE, toEmail, subject, body, codeExpiry);
     }
 }
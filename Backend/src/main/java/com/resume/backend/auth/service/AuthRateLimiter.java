@@ -0,0 +1,285 @@
+package com.resume.backend.auth.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Throttles the auth endpoints before they reach BCrypt, SMTP or the database. Every call is counted
+ * against its client IP and, when one is given, the normalized email, each per action and over a sliding
+ * window (the previous fixed window weighted by its remaining overlap, plus the current one). Failed
+ * logins and reset-code checks are counted separately per email; app.auth.lockout.max-failures of them
+ * within app.auth.lockout.failure-window lock that email for that action for app.auth.lockout.duration.
+ * <p>
+ * Counters live in lock-striped, access-ordered maps: a call locks only its key's stripe, each stripe
+ * holds at most its share of app.auth.rate.max-keys (least recently used keys go first), and keys idle
+ * for longer than they can matter are dropped as stripes are touched. Active lockouts are kept apart from
+ * the counters and only leave when they expire, so flooding the limiter with new keys cannot lift one;
+ * each takes max-failures counted calls to create. State is per instance.
+ */
+@Component
+public class AuthRateLimiter {
+
+    private final Stripe[] stripes;
+    private final int stripeCapacity;
+    private final long windowMillis;
+    private final int ipLimit;
+    private final int emailLimit;
+    private final int maxFailures;
+    private final long failureWindowMillis;
+    private final long lockoutMillis;
+    private final MeterRegistry meterRegistry;
+
+    public AuthRateLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${app.auth.rate.window:1m}") Duration window,
+            @Value("${app.auth.rate.ip-limit:20}") int ipLimit,
+            @Value("${app.auth.rate.email-limit:5}") int emailLimit,
+            @Value("${app.auth.rate.max-keys:100000}") int maxKeys,
+            @Value("${app.auth.rate.stripes:64}") int stripeCount,
+            @Value("${app.auth.lockout.max-failures:5}") int maxFailures,
+            @Value("${app.auth.lockout.failure-window:15m}") Duration failureWindow,
+            @Value("${app.auth.lockout.duration:15m}") Duration lockout
+    ) {
+        int count = Integer.highestOneBit(Math.max(1, stripeCount));
+        this.stripes = new Stripe[count];
+        this.stripeCapacity = Math.max(1, maxKeys / count);
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe(stripeCapacity);
+        }
+        this.windowMillis = window.toMillis();
+        this.ipLimit = ipLimit;
+        this.emailLimit = emailLimit;
+        this.maxFailures = maxFailures;
+        this.failureWindowMillis = failureWindow.toMillis();
+        this.lockoutMillis = lockout.toMillis();
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("auth.rate.keys", this, AuthRateLimiter::size)
+                .description("Keys currently tracked by the auth rate limiter")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Counts one call to {@code action}; throws {@link RateLimitExceededException} if the IP or the email is
+     * over its limit or the email is locked out, in which case nothing is counted.
+     */
+    public void acquire(String action, String clientIp, String email) {
+        long now = System.currentTimeMillis();
+        String emailKey = normalize(email);
+
+        if (emailKey != null) {
+            long lockedFor = lockedFor(failureKey(action, emailKey), now);
+            if (lockedFor > 0) {
+                throw rejected(action, "lockout", "Too many failed attempts. Try again later.", lockedFor);
+            }
+        }
+        long ipWait = tryHit("ip:" + action + ":" + clientIp, ipLimit, windowMillis, now);
+        if (ipWait > 0) {
+            throw rejected(action, "ip", "Too many requests. Try again later.", ipWait);
+        }
+        if (emailKey != null) {
+            long emailWait = tryHit("email:" + action + ":" + emailKey, emailLimit, windowMillis, now);
+            if (emailWait > 0) {
+                throw rejected(action, "email", "Too many requests for this account. Try again later.", emailWait);
+            }
+        }
+    }
+
+    /**
+     * Records a failed credential or reset-code check; the one that reaches max-failures starts the lockout.
+     */
+    public void recordFailure(String action, String email) {
+        String emailKey = normalize(email);
+        if (emailKey == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        String key = failureKey(action, emailKey);
+        Stripe stripe = stripe(key);
+        stripe.lock.lock();
+        try {
+            SlidingWindow failures = stripe.get(key, failureWindowMillis, now);
+            failures.hit(now);
+            if (failures.estimate(now) >= maxFailures) {
+                stripe.entries.remove(key);
+                stripe.lockouts.remove(key);
+                stripe.lockouts.put(key, now + lockoutMillis);
+                meterRegistry.counter("auth.rate.lockouts", "action", action).increment();
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    public void recordSuccess(String action, String email) {
+        String emailKey = normalize(email);
+        if (emailKey == null) {
+            return;
+        }
+        String key = failureKey(action, emailKey);
+        Stripe stripe = stripe(key);
+        stripe.lock.lock();
+        try {
+            stripe.entries.remove(key);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.entries.size() + stripe.lockouts.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    // Returns 0 and counts the hit if under the limit, otherwise the millis until one more would fit.
+    private long tryHit(String key, int limit, long window, long now) {
+        Stripe stripe = stripe(key);
+        stripe.lock.lock();
+        try {
+            SlidingWindow counter = stripe.get(key, window, now);
+            if (counter.estimate(now) + 1 > limit) {
+                return counter.millisUntilBelow(limit, now);
+            }
+            counter.hit(now);
+            return 0;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    private long lockedFor(String key, long now) {
+        Stripe stripe = stripe(key);
+        stripe.lock.lock();
+        try {
+            stripe.sweepLockouts(now);
+            Long lockedUntil = stripe.lockouts.get(key);
+            return lockedUntil == null ? 0 : lockedUntil - now;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    private RateLimitExceededException rejected(String action, String reason, String message, long waitMillis) {
+        meterRegistry.counter("auth.rate.rejected", "action", action, "reason", reason).increment();
+        return new RateLimitExceededException(message, (waitMillis + 999) / 1000);
+    }
+
+    private Stripe stripe(String key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+
+    private static String failureKey(String action, String emailKey) {
+        return "fail:" + action + ":" + emailKey;
+    }
+
+    private static String normalize(String email) {
+        if (email == null || email.trim().isEmpty()) {
+            return null;
+        }
+        return email.trim().toLowerCase();
+    }
+
+    private static final class Stripe {
+
+        final ReentrantLock lock = new ReentrantLock();
+        final LinkedHashMap<String, SlidingWindow> entries;
+        // Lockout expiry by failure key, in the order they were set; all share one duration.
+        final LinkedHashMap<String, Long> lockouts = new LinkedHashMap<>();
+
+        Stripe(int capacity) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, SlidingWindow> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+
+        // Caller holds the lock. Expired keys are swept from the least recently used end first.
+        SlidingWindow get(String key, long window, long now) {
+            Iterator<SlidingWindow> eldest = entries.values().iterator();
+            while (eldest.hasNext()) {
+                if (!eldest.next().isIdle(now)) {
+                    break;
+                }
+                eldest.remove();
+            }
+            return entries.computeIfAbsent(key, k -> new SlidingWindow(window, now));
+        }
+
+        // Caller holds the lock. Lockouts expire in insertion order, so only the head needs checking.
+        void sweepLockouts(long now) {
+            Iterator<Long> eldest = lockouts.values().iterator();
+            while (eldest.hasNext() && eldest.next() <= now) {
+                eldest.remove();
+            }
+        }
+    }
+
+    private static final class SlidingWindow {
+
+        final long window;
+        long start;
+        int previous;
+        int current;
+
+        SlidingWindow(long window, long now) {
+            this.window = Math.max(1, window);
+            this.start = now - now % this.window;
+        }
+
+        void hit(long now) {
+            roll(now);
+            current++;
+        }
+
+        double estimate(long now) {
+            roll(now);
+            double overlap = 1.0 - (double) (now - start) / window;
+            return previous * overlap + current;
+        }
+
+        // The previous window's weight falls linearly, so solve previous * overlap + current + 1 <= limit.
+        long millisUntilBelow(int limit, long now) {
+            roll(now);
+            long untilNextWindow = start + window - now;
+            if (current + 1 > limit || previous == 0) {
+                return untilNextWindow + (current + 1 > limit ? window : 0);
+            }
+            double overlapAllowed = (double) (limit - current - 1) / previous;
+            long target = start + (long) Math.ceil((1.0 - overlapAllowed) * window);
+            return Math.max(1, Math.min(target - now, untilNextWindow));
+        }
+
+        boolean isIdle(long now) {
+            return now - start >= 2 * window;
+        }
+
+        private void roll(long now) {
+            long elapsed = now - start;
+            if (elapsed < window) {
+                return;
+            }
+            previous = elapsed < 2 * window ? current : 0;
+            current = 0;
+            start = now - now % window;
+        }
+    }
+}
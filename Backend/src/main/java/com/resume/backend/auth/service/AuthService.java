@@ -2,45 +2,46 @@ package com.resume.backend.auth.service;
 
 import com.resume.backend.auth.entity.AuthUser;
 import com.resume.backend.auth.repository.AuthUserRepository;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
-import java.util.UUID;
 
 @Service
 public class AuthService {
 
+    private static final Logger log = LoggerFactory.getLogger(AuthService.class);
+
     private final AuthUserRepository authUserRepository;
-    private final PasswordEncoder passwordEncoder;
-    private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
+    private final PasswordHashingService passwordHashing;
+    private final GoogleIdTokenVerifier googleIdTokenVerifier;
+    private final TokenService tokenService;
+    private final RefreshTokenStore refreshTokenStore;
     private final AuthEmailService authEmailService;
 
-    @Value("${GOOGLE_CLIENT_ID:}")
-    private String googleClientId;
-
     @Value("${app.auth.debug-reset-code:true}")
     private boolean debugResetCode;
 
     public AuthService(
             AuthUserRepository authUserRepository,
-            PasswordEncoder passwordEncoder,
-            RestTemplate restTemplate,
-            ObjectMapper objectMapper,
+            PasswordHashingService passwordHashing,
+            GoogleIdTokenVerifier googleIdTokenVerifier,
+            TokenService tokenService,
+            RefreshTokenStore refreshTokenStore,
             AuthEmailService authEmailService
     ) {
         this.authUserRepository = authUserRepository;
-        this.passwordEncoder = passwordEncoder;
-        this.restTemplate = restTemplate;
-        this.objectMapper = objectMapper;
+        this.passwordHashing = passwordHashing;
+        this.googleIdTokenVerifier = googleIdTokenVerifier;
+        this.tokenService = tokenService;
+        this.refreshTokenStore = refreshTokenStore;
         this.authEmailService = authEmailService;
     }
 
@@ -60,7 +61,7 @@ public class AuthService {
         AuthUser user = new AuthUser();
         user.setName(safeName);
         user.setEmail(safeEmail);
-        user.setPasswordHash(passwordEncoder.encode(safePassword));
+        user.setPasswordHash(passwordHashing.hash(safePassword));
         user.setProvider("local");
         user.setAvatarUrl(avatarFromEmail(safeEmail));
 
@@ -79,13 +80,19 @@ public class AuthService {
             throw new IllegalArgumentException("Please continue with Google for this account");
         }
 
-        if (!passwordEncoder.matches(safePassword, user.getPasswordHash())) {
+        if (!passwordHashing.verify(safePassword, user.getPasswordHash())) {
             throw new IllegalArgumentException("Invalid email or password");
         }
 
+        if (passwordHashing.needsRehash(user.getPasswordHash())) {
+            upgradePasswordHash(user, safePassword);
+        }
+
         return authResponse("Login successful", user);
     }
 
+    // The reset code and its mail commit together; delivery is asynchronous, so this is only DB writes.
+    @Transactional
     public Map<String, Object> forgotPassword(String email) {
         String safeEmail = normalizeEmail(email);
 
@@ -102,8 +109,8 @@ public class AuthService {
         authUserRepository.save(user);
 
         try {
-            authEmailService.sendResetCodeEmail(safeEmail, user.getName(), code);
-        } catch (Exception mailError) {
+            authEmailService.queueResetCodeEmail(safeEmail, user.getName(), code, user.getResetCodeExpiry());
+        } catch (IllegalStateException mailError) {
             throw new IllegalArgumentException("Could not send reset email. Check SMTP configuration.");
         }
 
@@ -140,26 +147,24 @@ public class AuthService {
             throw new IllegalArgumentException("Reset code expired. Request a new one.");
         }
 
-        user.setPasswordHash(passwordEncoder.encode(safePassword));
+        user.setPasswordHash(passwordHashing.hash(safePassword));
         user.setResetCode(null);
         user.setResetCodeExpiry(null);
         authUserRepository.save(user);
+        // Sign out every session: no refresh token issued before the reset can be used again.
+        refreshTokenStore.revokeAll(user.getId());
 
         Map<String, Object> response = new HashMap<>();
         response.put("message", "Password reset successful");
         return response;
     }
 
-    @SuppressWarnings("unchecked")
     public Map<String, Object> loginWithGoogle(String idToken) {
         String safeToken = required(idToken, "Google token is required");
 
         try {
-            String tokenInfoUrl = "https://oauth2.googleapis.com/tokeninfo?id_token=" + safeToken;
-            ResponseEntity<String> googleResponse = restTemplate.getForEntity(tokenInfoUrl, String.class);
-            Map<String, Object> payload = objectMapper.readValue(googleResponse.getBody(), Map.class);
+            Map<String, Object> payload = googleIdTokenVerifier.verify(safeToken);
 
-            String aud = stringVal(payload.get("aud"));
             String email = normalizeEmail(stringVal(payload.get("email")));
             String name = stringVal(payload.get("name"));
             String picture = stringVal(payload.get("picture"));
@@ -169,10 +174,6 @@ public class AuthService {
                 throw new IllegalArgumentException("Google email is not verified");
             }
 
-            if (!googleClientId.isBlank() && !googleClientId.equals(aud)) {
-                throw new IllegalArgumentException("Google token audience mismatch");
-            }
-
             Optional<AuthUser> existing = authUserRepository.findByEmailIgnoreCase(email);
             AuthUser user;
             if (existing.isPresent()) {
@@ -201,6 +202,62 @@ public class AuthService {
         }
     }
 
+    /**
+     * Exchanges a refresh token for a new access/refresh pair. The presented refresh token is consumed
+     * atomically, so each one can be used once even by concurrent requests.
+     */
+    public Map<String, Object> refresh(String refreshToken) {
+        TokenService.TokenClaims claims = tokenService.verify(required(refreshToken, "Refresh token is required"),
+                TokenService.REFRESH);
+        if (!refreshTokenStore.consume(claims)) {
+            throw new IllegalArgumentException("Token revoked");
+        }
+        AuthUser user = authUserRepository.findById(claims.userId())
+                .filter(found -> found.getEmail().equalsIgnoreCase(claims.email()))
+                .orElseThrow(() -> new IllegalArgumentException("Account not found"));
+        return authResponse("Token refreshed", user);
+    }
+
+    /**
+     * Revokes whichever of the two tokens are still valid; invalid ones are ignored.
+     */
+    public Map<String, Object> logout(String accessToken, String refreshToken) {
+        revokeQuietly(accessToken, TokenService.ACCESS);
+        revokeQuietly(refreshToken, TokenService.REFRESH);
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", "Logged out");
+        return response;
+    }
+
+    private void revokeQuietly(String token, String type) {
+        if (token == null || token.isBlank()) {
+            return;
+        }
+        try {
+            TokenService.TokenClaims claims = tokenService.verify(token.trim(), type);
+            if (TokenService.REFRESH.equals(type)) {
+                refreshTokenStore.consume(claims);
+            } else {
+                tokenService.revoke(claims);
+            }
+        } catch (IllegalArgumentException alreadyUnusable) {
+            // Expired, revoked or forged: nothing to revoke.
+        }
+    }
+
+    /**
+     * Re-hashes at the current BCrypt cost while the plain password is at hand. Skipped when the hashing
+     * pool is saturated; the next login tries again.
+     */
+    private void upgradePasswordHash(AuthUser user, String password) {
+        try {
+            user.setPasswordHash(passwordHashing.hash(password));
+            authUserRepository.save(user);
+        } catch (TaskRejectedException e) {
+            log.debug("Deferred password rehash for user {}: hashing pool busy", user.getId());
+        }
+    }
+
     private Map<String, Object> authResponse(String message, AuthUser user) {
         Map<String, Object> userMap = new HashMap<>();
         userMap.put("id", user.getId());
@@ -212,7 +269,12 @@ public class AuthService {
         Map<String, Object> response = new HashMap<>();
         response.put("message", message);
         response.put("user", userMap);
-        response.put("accessToken", UUID.randomUUID().toString());
+        response.put("accessToken", tokenService.issueAccessToken(user));
+        TokenService.IssuedToken refresh = tokenService.issueRefreshToken(user);
+        refreshTokenStore.register(refresh.claims());
+        response.put("refreshToken", refresh.token());
+        response.put("tokenType", "Bearer");
+        response.put("expiresIn", tokenService.accessTtlSeconds());
         return response;
     }
 
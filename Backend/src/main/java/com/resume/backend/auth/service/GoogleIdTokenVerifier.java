@@ -0,0 +1,292 @@
+package com.resume.backend.auth.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.client.RestTemplate;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Verifies Google ID tokens in-process: RS256 signature against Google's published key set, then
+ * {@code iss}, {@code aud} (when GOOGLE_CLIENT_ID is set) and {@code exp}. The key set is fetched on
+ * first use and refreshed in the background shortly before the max-age Google sends with it expires,
+ * so logins never wait on Google unless a token names a key we have not seen yet (key rotation).
+ * <p>
+ * app.auth.google.jwks-uri also accepts classpath: and file: locations, which tests use for a local key set.
+ */
+@Component
+public class GoogleIdTokenVerifier {
+
+    private static final Logger log = LoggerFactory.getLogger(GoogleIdTokenVerifier.class);
+
+    private static final Base64.Decoder BASE64_URL = Base64.getUrlDecoder();
+    private static final double REFRESH_AT = 0.9;
+    private static final Duration MIN_REFRESH = Duration.ofMinutes(1);
+
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final String jwksUri;
+    private final String clientId;
+    private final List<String> issuers;
+    private final long clockSkewSeconds;
+    private final Duration defaultMaxAge;
+    private final long unknownKeyRefreshNanos;
+    private final boolean prefetch;
+    private final ScheduledExecutorService refresher;
+
+    private volatile Map<String, PublicKey> keys;
+    private volatile long lastFetch;
+    private ScheduledFuture<?> nextRefresh;
+
+    public GoogleIdTokenVerifier(
+            RestTemplate restTemplate,
+            ObjectMapper objectMapper,
+            @Value("${app.auth.google.jwks-uri:https://www.googleapis.com/oauth2/v3/certs}") String jwksUri,
+            @Value("${GOOGLE_CLIENT_ID:}") String clientId,
+            @Value("${app.auth.google.issuers:accounts.google.com,https://accounts.google.com}") List<String> issuers,
+            @Value("${app.auth.google.clock-skew:60s}") Duration clockSkew,
+            @Value("${app.auth.google.jwks-default-max-age:1h}") Duration defaultMaxAge,
+            @Value("${app.auth.google.unknown-key-refresh-interval:30s}") Duration unknownKeyRefreshInterval,
+            @Value("${app.auth.google.jwks-prefetch:true}") boolean prefetch
+    ) {
+        this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+        this.jwksUri = jwksUri;
+        this.clientId = clientId;
+        this.issuers = issuers;
+        this.clockSkewSeconds = clockSkew.getSeconds();
+        this.defaultMaxAge = defaultMaxAge;
+        this.unknownKeyRefreshNanos = unknownKeyRefreshInterval.toNanos();
+        this.prefetch = prefetch;
+        this.refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "google-jwks-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (clientId.isBlank()) {
+            log.warn("GOOGLE_CLIENT_ID is not set; Google sign-in is disabled");
+        }
+    }
+
+    /**
+     * Loads the key set off the startup path so the first Google login does not pay for it either.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void prefetch() {
+        if (!prefetch || clientId.isBlank()) {
+            return;
+        }
+        refresher.execute(() -> {
+            try {
+                refresh(false);
+            } catch (RuntimeException e) {
+                log.warn("Could not prefetch Google signing keys; the first Google login will retry", e);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    /**
+     * Returns the token's claims, or throws IllegalArgumentException when the token is malformed,
+     * unsigned by Google, expired or issued for another client.
+     */
+    public Map<String, Object> verify(String idToken) {
+        // Without our client id the audience cannot be checked, and a token minted for any other app would pass.
+        if (clientId.isBlank()) {
+            throw new IllegalArgumentException("Google sign-in not configured");
+        }
+        String[] parts = idToken.split("\\.", -1);
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Malformed Google ID token");
+        }
+        JsonNode header = decode(parts[0]);
+        JsonNode claims = decode(parts[1]);
+
+        if (!"RS256".equals(header.path("alg").asText())) {
+            throw new IllegalArgumentException("Unsupported Google token algorithm " + header.path("alg").asText());
+        }
+        PublicKey key = key(header.path("kid").asText());
+        if (!signatureMatches(key, parts)) {
+            throw new IllegalArgumentException("Invalid Google token signature");
+        }
+
+        if (!issuers.contains(claims.path("iss").asText())) {
+            throw new IllegalArgumentException("Google token issuer mismatch");
+        }
+        if (!audienceContains(claims.path("aud"))) {
+            throw new IllegalArgumentException("Google token audience mismatch");
+        }
+        long now = System.currentTimeMillis() / 1000;
+        if (!claims.path("exp").canConvertToLong() || claims.path("exp").asLong() + clockSkewSeconds < now) {
+            throw new IllegalArgumentException("Google token expired");
+        }
+        if (claims.path("iat").asLong(0) - clockSkewSeconds > now) {
+            throw new IllegalArgumentException("Google token issued in the future");
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> result = objectMapper.convertValue(claims, Map.class);
+        return result;
+    }
+
+    private PublicKey key(String kid) {
+        Map<String, PublicKey> current = keys;
+        if (current == null) {
+            current = refresh(false);
+        }
+        PublicKey key = current.get(kid);
+        if (key == null) {
+            // Google rotates keys; a token signed with a key newer than our copy forces a (throttled) refetch.
+            key = refresh(true).get(kid);
+        }
+        if (key == null) {
+            throw new IllegalArgumentException("Google token signed with unknown key " + kid);
+        }
+        return key;
+    }
+
+    private synchronized Map<String, PublicKey> refresh(boolean unknownKey) {
+        if (keys != null && (!unknownKey || System.nanoTime() - lastFetch < unknownKeyRefreshNanos)) {
+            return keys;
+        }
+        fetch();
+        return keys;
+    }
+
+    private synchronized void fetch() {
+        Duration maxAge;
+        try {
+            String body;
+            if (jwksUri.startsWith("http")) {
+                ResponseEntity<String> response = restTemplate.getForEntity(jwksUri, String.class);
+                body = response.getBody();
+                maxAge = maxAge(response.getHeaders());
+            } else {
+                try (InputStream in = new DefaultResourceLoader().getResource(jwksUri).getInputStream()) {
+                    body = StreamUtils.copyToString(in, StandardCharsets.UTF_8);
+                }
+                maxAge = defaultMaxAge;
+            }
+            keys = parseKeySet(body);
+            lastFetch = System.nanoTime();
+            log.debug("Loaded {} Google signing keys, next refresh in {}", keys.size(), maxAge);
+        } catch (IOException | RuntimeException | GeneralSecurityException e) {
+            if (keys == null) {
+                throw new IllegalStateException("Could not load Google signing keys from " + jwksUri, e);
+            }
+            log.warn("Could not refresh Google signing keys from {}; keeping the current set", jwksUri, e);
+            maxAge = MIN_REFRESH;
+        }
+        scheduleRefresh(maxAge);
+    }
+
+    private void scheduleRefresh(Duration maxAge) {
+        long delayMillis = Math.max(MIN_REFRESH.toMillis(), (long) (maxAge.toMillis() * REFRESH_AT));
+        if (nextRefresh != null) {
+            nextRefresh.cancel(false);
+        }
+        if (!refresher.isShutdown()) {
+            nextRefresh = refresher.schedule(this::fetch, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private Duration maxAge(HttpHeaders headers) {
+        String cacheControl = headers.getCacheControl();
+        if (cacheControl != null) {
+            for (String directive : cacheControl.split(",")) {
+                String trimmed = directive.trim();
+                if (trimmed.startsWith("max-age=")) {
+                    try {
+                        long seconds = Long.parseLong(trimmed.substring("max-age=".length()));
+                        long age = headers.getFirst(HttpHeaders.AGE) == null ? 0
+                                : Long.parseLong(headers.getFirst(HttpHeaders.AGE).trim());
+                        return Duration.ofSeconds(Math.max(0, seconds - age));
+                    } catch (NumberFormatException e) {
+                        break;
+                    }
+                }
+            }
+        }
+        return defaultMaxAge;
+    }
+
+    private Map<String, PublicKey> parseKeySet(String body) throws IOException, GeneralSecurityException {
+        KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+        Map<String, PublicKey> parsed = new HashMap<>();
+        for (JsonNode jwk : objectMapper.readTree(body).path("keys")) {
+            if (!"RSA".equals(jwk.path("kty").asText())) {
+                continue;
+            }
+            BigInteger modulus = new BigInteger(1, BASE64_URL.decode(jwk.path("n").asText()));
+            BigInteger exponent = new BigInteger(1, BASE64_URL.decode(jwk.path("e").asText()));
+            parsed.put(jwk.path("kid").asText(), keyFactory.generatePublic(new RSAPublicKeySpec(modulus, exponent)));
+        }
+        if (parsed.isEmpty()) {
+            throw new IllegalStateException("Google key set contains no RSA keys");
+        }
+        return Map.copyOf(parsed);
+    }
+
+    private static boolean signatureMatches(PublicKey key, String[] parts) {
+        try {
+            Signature signature = Signature.getInstance("SHA256withRSA");
+            signature.initVerify(key);
+            signature.update((parts[0] + "." + parts[1]).getBytes(StandardCharsets.US_ASCII));
+            return signature.verify(BASE64_URL.decode(parts[2]));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private boolean audienceContains(JsonNode aud) {
+        if (aud.isArray()) {
+            for (JsonNode value : aud) {
+                if (clientId.equals(value.asText())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return clientId.equals(aud.asText());
+    }
+
+    private JsonNode decode(String part) {
+        try {
+            return objectMapper.readTree(BASE64_URL.decode(part));
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed Google ID token");
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.resume.backend.auth.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs BCrypt on the bounded passwordHashExecutor instead of the request thread, so a login storm
+ * is capped at one hash per core. When the queue is full, or a hash has waited longer than
+ * app.auth.hashing.max-wait, the call fails fast with {@link TaskRejectedException}, which the auth
+ * endpoints answer with 429. Hash time itself is timed by the encoder as auth.password.hash.
+ */
+@Service
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor executor;
+    private final long maxWaitNanos;
+    private final Timer queueWait;
+    private final Counter rejected;
+
+    public PasswordHashingService(
+            PasswordEncoder passwordEncoder,
+            @Qualifier("passwordHashExecutor") ThreadPoolTaskExecutor executor,
+            MeterRegistry meterRegistry,
+            @Value("${app.auth.hashing.max-wait:5s}") Duration maxWait
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = executor;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.queueWait = Timer.builder("auth.password.queue.wait")
+                .description("Time a hash spent queued before a hashing thread picked it up")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("auth.password.rejected")
+                .description("Hashes refused because the hashing queue was full or too slow")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.queue", executor, pool -> pool.getThreadPoolExecutor().getQueue().size())
+                .description("Hashes waiting for a hashing thread")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("Hashing threads currently busy")
+                .register(meterRegistry);
+    }
+
+    public String hash(String rawPassword) {
+        return run(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean verify(String rawPassword, String storedHash) {
+        if (storedHash == null || storedHash.isBlank()) {
+            return false;
+        }
+        return run(() -> passwordEncoder.matches(rawPassword, storedHash));
+    }
+
+    /**
+     * True when the hash was made with a lower cost than app.auth.bcrypt.strength.
+     */
+    public boolean needsRehash(String storedHash) {
+        return storedHash != null && passwordEncoder.upgradeEncoding(storedHash);
+    }
+
+    private <T> T run(Callable<T> work) {
+        long submitted = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWait.record(System.nanoTime() - submitted, TimeUnit.NANOSECONDS);
+                return work.call();
+            });
+        } catch (TaskRejectedException e) {
+            rejected.increment();
+            throw e;
+        }
+
+        try {
+            return future.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw new TaskRejectedException("Password hashing is overloaded", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new TaskRejectedException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException("Password hashing failed", cause);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.resume.backend.auth.service;
+
+/**
+ * Thrown by {@link AuthRateLimiter} when a caller is over a limit or locked out; the auth endpoints
+ * answer it with 429 and Retry-After.
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = Math.max(1, retryAfterSeconds);
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,61 @@
+package com.resume.backend.auth.service;
+
+import com.resume.backend.auth.entity.RefreshToken;
+import com.resume.backend.auth.repository.RefreshTokenRepository;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Server-side record of live refresh tokens. A signed refresh token is only honoured while its row
+ * exists; refreshing deletes the row in the same statement that checks it, so each token is used at
+ * most once, on every instance and across restarts.
+ */
+@Component
+@Lazy(false)
+public class RefreshTokenStore {
+
+    private final RefreshTokenRepository repository;
+
+    public RefreshTokenStore(RefreshTokenRepository repository) {
+        this.repository = repository;
+    }
+
+    @Transactional
+    public void register(TokenService.TokenClaims claims) {
+        RefreshToken token = new RefreshToken();
+        token.setId(claims.tokenId());
+        token.setUserId(claims.userId());
+        token.setExpiresAt(toLocal(claims.expiresAt()));
+        repository.save(token);
+    }
+
+    /**
+     * Atomically revokes the token; false if it was already used, revoked or has expired.
+     */
+    @Transactional
+    public boolean consume(TokenService.TokenClaims claims) {
+        return repository.consume(claims.tokenId(), claims.userId(), LocalDateTime.now()) == 1;
+    }
+
+    @Transactional
+    public void revokeAll(Long userId) {
+        repository.deleteByUser(userId);
+    }
+
+    @Scheduled(fixedDelayString = "${app.auth.token.purge-interval-ms:3600000}",
+            initialDelayString = "${app.auth.token.purge-interval-ms:3600000}")
+    @Transactional
+    public void purgeExpired() {
+        repository.deleteExpired(LocalDateTime.now());
+    }
+
+    private static LocalDateTime toLocal(long epochSeconds) {
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSeconds), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,109 @@
+package com.resume.backend.auth.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Access-token ids revoked before their expiry (logout). Lookups go through a Bloom
+ * filter first, so the common case, a token that was never revoked, costs a few array reads and no
+ * map access; only filter hits consult the exact set. Entries are dropped once the token would have
+ * expired anyway, and the filter is rebuilt from what is left.
+ * <p>
+ * The list is per instance and in memory: a revocation is not seen by other instances and does not
+ * survive a restart, so on those an access token stays usable until it expires (app.auth.token.access-ttl).
+ * Refresh tokens are long-lived and are not tracked here; RefreshTokenStore keeps them in the database.
+ */
+@Component
+public class TokenRevocationList {
+
+    private static final int HASHES = 4;
+
+    private final int bitCount;
+    private final long purgeIntervalMillis;
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+
+    private volatile AtomicLongArray bits;
+    private long nextPurge;
+
+    public TokenRevocationList(
+            MeterRegistry meterRegistry,
+            @Value("${app.auth.revocation.bloom-bits:1048576}") int bitCount,
+            @Value("${app.auth.revocation.purge-interval:1m}") Duration purgeInterval
+    ) {
+        this.bitCount = Math.max(64, bitCount);
+        this.purgeIntervalMillis = purgeInterval.toMillis();
+        this.bits = new AtomicLongArray((this.bitCount + 63) / 64);
+        this.nextPurge = System.currentTimeMillis() + purgeIntervalMillis;
+        Gauge.builder("auth.tokens.revoked", revoked, Map::size)
+                .description("Revoked tokens that have not expired yet")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param expiresAt the token's own expiry, epoch seconds; the entry is kept until then
+     */
+    public synchronized void revoke(String tokenId, long expiresAt) {
+        purgeIfDue();
+        revoked.put(tokenId, expiresAt);
+        add(bits, tokenId);
+    }
+
+    public boolean isRevoked(String tokenId) {
+        AtomicLongArray current = bits;
+        long hash = hash(tokenId);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < HASHES; i++) {
+            int bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((current.get(bit >>> 6) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return revoked.containsKey(tokenId);
+    }
+
+    private void purgeIfDue() {
+        long now = System.currentTimeMillis();
+        if (now < nextPurge) {
+            return;
+        }
+        nextPurge = now + purgeIntervalMillis;
+        long nowSeconds = now / 1000;
+        if (!revoked.values().removeIf(expiresAt -> expiresAt < nowSeconds)) {
+            return;
+        }
+        AtomicLongArray rebuilt = new AtomicLongArray(bits.length());
+        for (String tokenId : revoked.keySet()) {
+            add(rebuilt, tokenId);
+        }
+        bits = rebuilt;
+    }
+
+    private void add(AtomicLongArray target, String tokenId) {
+        long hash = hash(tokenId);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < HASHES; i++) {
+            int bit = Math.floorMod(h1 + i * h2, bitCount);
+            target.getAndUpdate(bit >>> 6, word -> word | (1L << bit));
+        }
+    }
+
+    // 64-bit FNV-1a; the two halves drive double hashing (Kirsch-Mitzenmacher) for the filter's probes.
+    private static long hash(String tokenId) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : tokenId.getBytes(StandardCharsets.US_ASCII)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
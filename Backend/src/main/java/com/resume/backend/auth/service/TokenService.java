@@ -0,0 +1,176 @@
+package com.resume.backend.auth.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.resume.backend.auth.entity.AuthUser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * Issues and verifies HS256-signed JWTs. An access token is checked with one HMAC over the token and a
+ * revocation lookup, with no database access. Access tokens are short-lived; a refresh token (longer
+ * lived, typ "refresh") is exchanged for a new pair at /api/v1/auth/refresh. Whether a refresh token is
+ * still live is recorded in the database by RefreshTokenStore, not here.
+ */
+@Service
+public class TokenService {
+
+    public static final String ACCESS = "access";
+    public static final String REFRESH = "refresh";
+
+    private static final Logger log = LoggerFactory.getLogger(TokenService.class);
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder BASE64_URL_DECODER = Base64.getUrlDecoder();
+    private static final String HEADER = BASE64_URL.encodeToString(
+            "{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+
+    private final ObjectMapper objectMapper;
+    private final TokenRevocationList revocationList;
+    private final SecretKeySpec key;
+    private final Duration accessTtl;
+    private final Duration refreshTtl;
+    private final SecureRandom random = new SecureRandom();
+    private final ThreadLocal<Mac> macs;
+
+    public TokenService(
+            ObjectMapper objectMapper,
+            TokenRevocationList revocationList,
+            @Value("${app.auth.token.secret:}") String secret,
+            @Value("${app.auth.token.access-ttl:15m}") Duration accessTtl,
+            @Value("${app.auth.token.refresh-ttl:14d}") Duration refreshTtl
+    ) {
+        this.objectMapper = objectMapper;
+        this.revocationList = revocationList;
+        this.accessTtl = accessTtl;
+        this.refreshTtl = refreshTtl;
+
+        byte[] keyBytes;
+        if (secret.isBlank()) {
+            log.warn("app.auth.token.secret is not set; using a random key, so tokens will not survive a restart");
+            keyBytes = new byte[32];
+            random.nextBytes(keyBytes);
+        } else {
+            keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+            if (keyBytes.length < 32) {
+                throw new IllegalStateException("app.auth.token.secret must be at least 32 bytes");
+            }
+        }
+        this.key = new SecretKeySpec(keyBytes, ALGORITHM);
+        this.macs = ThreadLocal.withInitial(this::newMac);
+    }
+
+    public String issueAccessToken(AuthUser user) {
+        return issue(user, ACCESS, accessTtl).token();
+    }
+
+    /**
+     * The claims are returned alongside so the caller can record the token id; see RefreshTokenStore.
+     */
+    public IssuedToken issueRefreshToken(AuthUser user) {
+        return issue(user, REFRESH, refreshTtl);
+    }
+
+    public long accessTtlSeconds() {
+        return accessTtl.getSeconds();
+    }
+
+    /**
+     * Checks signature, type, expiry and revocation; throws IllegalArgumentException on any failure.
+     */
+    public TokenClaims verify(String token, String expectedType) {
+        int firstDot = token.indexOf('.');
+        int lastDot = token.lastIndexOf('.');
+        if (firstDot <= 0 || lastDot == firstDot) {
+            throw new IllegalArgumentException("Malformed token");
+        }
+        byte[] expected = sign(token.substring(0, lastDot));
+        byte[] actual;
+        try {
+            actual = BASE64_URL_DECODER.decode(token.substring(lastDot + 1));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed token");
+        }
+        if (!MessageDigest.isEqual(expected, actual)) {
+            throw new IllegalArgumentException("Invalid token signature");
+        }
+
+        JsonNode payload;
+        try {
+            payload = objectMapper.readTree(BASE64_URL_DECODER.decode(token.substring(firstDot + 1, lastDot)));
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed token");
+        }
+        TokenClaims claims = new TokenClaims(payload.path("uid").asLong(), payload.path("sub").asText(),
+                payload.path("typ").asText(), payload.path("jti").asText(), payload.path("exp").asLong());
+
+        if (!expectedType.equals(claims.type())) {
+            throw new IllegalArgumentException("Wrong token type");
+        }
+        if (claims.expiresAt() < System.currentTimeMillis() / 1000) {
+            throw new IllegalArgumentException("Token expired");
+        }
+        if (revocationList.isRevoked(claims.tokenId())) {
+            throw new IllegalArgumentException("Token revoked");
+        }
+        return claims;
+    }
+
+    public void revoke(TokenClaims claims) {
+        revocationList.revoke(claims.tokenId(), claims.expiresAt());
+    }
+
+    private IssuedToken issue(AuthUser user, String type, Duration ttl) {
+        long now = System.currentTimeMillis() / 1000;
+        byte[] tokenIdBytes = new byte[16];
+        random.nextBytes(tokenIdBytes);
+        String tokenId = BASE64_URL.encodeToString(tokenIdBytes);
+        long expiresAt = now + ttl.getSeconds();
+
+        ObjectNode payload = objectMapper.createObjectNode();
+        payload.put("sub", user.getEmail());
+        payload.put("uid", user.getId());
+        payload.put("typ", type);
+        payload.put("jti", tokenId);
+        payload.put("iat", now);
+        payload.put("exp", expiresAt);
+
+        String unsigned = HEADER + "." + BASE64_URL.encodeToString(payload.toString().getBytes(StandardCharsets.UTF_8));
+        return new IssuedToken(unsigned + "." + BASE64_URL.encodeToString(sign(unsigned)),
+                new TokenClaims(user.getId(), user.getEmail(), type, tokenId, expiresAt));
+    }
+
+    private byte[] sign(String unsigned) {
+        return macs.get().doFinal(unsigned.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 not available", e);
+        }
+    }
+
+    public record TokenClaims(long userId, String email, String type, String tokenId, long expiresAt) {
+    }
+
+    public record IssuedToken(String token, TokenClaims claims) {
+    }
+}
@@ -0,0 +1,88 @@
+package com.resume.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableScheduling
+public class AsyncConfig {
+
+    @Value("${app.threads.virtual:false}")
+    private boolean virtualThreads;
+
+    @Value("${app.llm.stream.max-concurrent:16}")
+    private int streamMaxConcurrent;
+
+    @Value("${app.llm.stream.queue-capacity:32}")
+    private int streamQueueCapacity;
+
+    @Value("${app.llm.jobs.workers:8}")
+    private int jobWorkers;
+
+    @Value("${app.llm.jobs.queue-capacity:100}")
+    private int jobQueueCapacity;
+
+    @Value("${app.auth.hashing.threads:0}")
+    private int hashingThreads;
+
+    @Value("${app.auth.hashing.queue-capacity:64}")
+    private int hashingQueueCapacity;
+
+    /**
+     * Runs SSE resume generations so the servlet thread is released while Groq streams tokens.
+     * Bounded so a burst of streams is rejected instead of piling up.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor llmStreamExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(streamMaxConcurrent);
+        executor.setMaxPoolSize(streamMaxConcurrent);
+        executor.setQueueCapacity(streamQueueCapacity);
+        executor.setThreadNamePrefix("llm-stream-");
+        useVirtualThreadsIfEnabled(executor, "llm-stream-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+
+    /**
+     * Worker pool for asynchronous generation jobs. Submissions beyond the queue capacity are rejected
+     * (TaskRejectedException) so LLM latency never ties up request threads.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor llmJobExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(jobWorkers);
+        executor.setMaxPoolSize(jobWorkers);
+        executor.setQueueCapacity(jobQueueCapacity);
+        executor.setThreadNamePrefix("llm-job-");
+        useVirtualThreadsIfEnabled(executor, "llm-job-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+
+    /**
+     * CPU-bound BCrypt work for signup, login and password reset; one thread per core unless
+     * app.auth.hashing.threads says otherwise. Always platform threads, since hashing never blocks.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor passwordHashExecutor() {
+        int threads = hashingThreads > 0 ? hashingThreads : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(hashingQueueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+
+    private void useVirtualThreadsIfEnabled(ThreadPoolTaskExecutor executor, String namePrefix) {
+        if (virtualThreads) {
+            // Pool size and queue still bound admission; only the carrier of each worker changes.
+            executor.setThreadFactory(Thread.ofVirtual().name(namePrefix, 1).factory());
+        }
+    }
+}
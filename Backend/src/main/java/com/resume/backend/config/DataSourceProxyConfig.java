@@ -0,0 +1,41 @@
+package com.resume.backend.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Wraps the application DataSource so JDBC executions are timed and slow ones logged,
+ * replacing spring.jpa.show-sql for production query visibility.
+ */
+@Configuration
+public class DataSourceProxyConfig {
+
+    @Bean
+    public static BeanPostProcessor queryMetricsDataSourcePostProcessor(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            Environment environment
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource) || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+                Duration threshold = environment.getProperty(
+                        "app.db.slow-query-threshold", Duration.class, Duration.ofMillis(200));
+                return ProxyDataSourceBuilder.create(beanName, (DataSource) bean)
+                        .listener(new QueryMetricsListener(meterRegistry::getObject, threshold))
+                        .build();
+            }
+        };
+    }
+}
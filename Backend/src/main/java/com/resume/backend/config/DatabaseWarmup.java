@@ -0,0 +1,69 @@
+package com.resume.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Opens the pool's minimum-idle connections once the application is ready, so the first requests
+ * after a deploy do not pay the TLS handshake and authentication to the remote database.
+ */
+@Component
+public class DatabaseWarmup {
+
+    private static final Logger log = LoggerFactory.getLogger(DatabaseWarmup.class);
+
+    private final DataSource dataSource;
+    private final boolean enabled;
+
+    public DatabaseWarmup(DataSource dataSource, @Value("${app.db.warmup.enabled:true}") boolean enabled) {
+        this.dataSource = dataSource;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!enabled) {
+            return;
+        }
+        int target;
+        try {
+            target = dataSource.unwrap(HikariDataSource.class).getMinimumIdle();
+        } catch (SQLException e) {
+            log.debug("DataSource is not a Hikari pool; skipping warm-up");
+            return;
+        }
+
+        long started = System.nanoTime();
+        List<Connection> borrowed = new ArrayList<>(target);
+        try {
+            // Holding each connection forces the pool to open a new one for the next borrow.
+            for (int i = 0; i < target; i++) {
+                Connection connection = dataSource.getConnection();
+                borrowed.add(connection);
+                connection.isValid(2);
+            }
+        } catch (SQLException e) {
+            log.warn("Database warm-up stopped after {} connections", borrowed.size(), e);
+        } finally {
+            for (Connection connection : borrowed) {
+                try {
+                    connection.close();
+                } catch (SQLException e) {
+                    log.debug("Could not return warm-up connection", e);
+                }
+            }
+        }
+        log.info("Warmed {} database connections in {} ms", borrowed.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+}
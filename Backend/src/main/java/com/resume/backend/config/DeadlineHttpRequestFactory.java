@@ -0,0 +1,149 @@
+package com.resume.backend.config;
+
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Apache HttpClient only bounds connect and per-read socket waits. This factory adds an overall
+ * deadline per exchange: when it elapses the underlying request is aborted, which also releases
+ * its pooled connection. The deadline is cancelled as soon as the response is closed.
+ */
+class DeadlineHttpRequestFactory extends HttpComponentsClientHttpRequestFactory {
+
+    private final ScheduledExecutorService scheduler;
+    private final long totalTimeoutMs;
+    private final ThreadLocal<ScheduledFuture<?>> pendingDeadline = new ThreadLocal<>();
+
+    DeadlineHttpRequestFactory(HttpClient httpClient, ScheduledExecutorService scheduler, long totalTimeoutMs) {
+        super(httpClient);
+        this.scheduler = scheduler;
+        this.totalTimeoutMs = totalTimeoutMs;
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+        ClientHttpRequest request;
+        try {
+            request = super.createRequest(uri, httpMethod);
+        } catch (IOException | RuntimeException e) {
+            // The deadline may already be scheduled; it must not leak to this thread's next request.
+            ScheduledFuture<?> orphan = takePendingDeadline();
+            if (orphan != null) {
+                orphan.cancel(false);
+            }
+            throw e;
+        }
+        ScheduledFuture<?> deadline = takePendingDeadline();
+        return deadline == null ? request : new DeadlineRequest(request, deadline);
+    }
+
+    @Override
+    protected void postProcessHttpRequest(HttpUriRequest request) {
+        if (totalTimeoutMs > 0) {
+            pendingDeadline.set(scheduler.schedule(request::abort, totalTimeoutMs, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    private ScheduledFuture<?> takePendingDeadline() {
+        ScheduledFuture<?> deadline = pendingDeadline.get();
+        pendingDeadline.remove();
+        return deadline;
+    }
+
+    private static final class DeadlineRequest implements ClientHttpRequest {
+
+        private final ClientHttpRequest delegate;
+        private final ScheduledFuture<?> deadline;
+
+        private DeadlineRequest(ClientHttpRequest delegate, ScheduledFuture<?> deadline) {
+            this.delegate = delegate;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public ClientHttpResponse execute() throws IOException {
+            try {
+                return new DeadlineResponse(delegate.execute(), deadline);
+            } catch (IOException | RuntimeException e) {
+                deadline.cancel(false);
+                throw e;
+            }
+        }
+
+        @Override
+        public OutputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public String getMethodValue() {
+            return delegate.getMethodValue();
+        }
+
+        @Override
+        public URI getURI() {
+            return delegate.getURI();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+    }
+
+    private static final class DeadlineResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final ScheduledFuture<?> deadline;
+
+        private DeadlineResponse(ClientHttpResponse delegate, ScheduledFuture<?> deadline) {
+            this.delegate = delegate;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public HttpStatus getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public int getRawStatusCode() throws IOException {
+            return delegate.getRawStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public void close() {
+            deadline.cancel(false);
+            delegate.close();
+        }
+    }
+}
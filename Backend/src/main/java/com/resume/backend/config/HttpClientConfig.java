@@ -0,0 +1,133 @@
+package com.resume.backend.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Outbound HTTP client shared by GroqService and AuthService.
+ * Connections are pooled and kept alive so repeated calls to the same host skip the TCP/TLS handshake.
+ */
+@Configuration
+public class HttpClientConfig {
+
+    @Value("${app.http.max-total:50}")
+    private int maxTotal;
+
+    @Value("${app.http.max-per-route:20}")
+    private int maxPerRoute;
+
+    @Value("${app.http.connect-timeout-ms:3000}")
+    private int connectTimeoutMs;
+
+    @Value("${app.http.read-timeout-ms:60000}")
+    private int readTimeoutMs;
+
+    @Value("${app.http.pool-timeout-ms:2000}")
+    private int poolTimeoutMs;
+
+    @Value("${app.http.total-timeout-ms:90000}")
+    private long totalTimeoutMs;
+
+    @Value("${app.http.keep-alive-ms:30000}")
+    private long keepAliveMs;
+
+    @Value("${app.http.idle-evict-ms:30000}")
+    private long idleEvictMs;
+
+    @Bean
+    public PoolingHttpClientConnectionManager httpConnectionManager(ObjectProvider<MeterRegistry> meterRegistry) {
+        // Resolved on first connect: the pool gauges below are bound while the registry itself is being created.
+        Supplier<MeterRegistry> registry = meterRegistry::getObject;
+        Registry<ConnectionSocketFactory> socketFactories = RegistryBuilder.<ConnectionSocketFactory>create()
+                .register("http", new TimedConnectionSocketFactory(PlainConnectionSocketFactory.getSocketFactory(), registry))
+                .register("https", new TimedConnectionSocketFactory(SSLConnectionSocketFactory.getSocketFactory(), registry))
+                .build();
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(socketFactories);
+        connectionManager.setMaxTotal(maxTotal);
+        connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+        connectionManager.setValidateAfterInactivity(2000);
+        return connectionManager;
+    }
+
+    @Bean
+    public CloseableHttpClient httpClient(PoolingHttpClientConnectionManager httpConnectionManager) {
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(connectTimeoutMs)
+                .setSocketTimeout(readTimeoutMs)
+                .setConnectionRequestTimeout(poolTimeoutMs)
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(httpConnectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .setKeepAliveStrategy((response, context) -> {
+                    long advertised = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                    return advertised > 0 ? Math.min(advertised, keepAliveMs) : keepAliveMs;
+                })
+                .evictExpiredConnections()
+                .evictIdleConnections(idleEvictMs, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ScheduledExecutorService httpDeadlineScheduler() {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "http-deadline");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+
+    @Bean
+    public RestTemplate restTemplate(
+            RestTemplateBuilder builder,
+            CloseableHttpClient httpClient,
+            ScheduledExecutorService httpDeadlineScheduler
+    ) {
+        return builder
+                .requestFactory(() -> new DeadlineHttpRequestFactory(httpClient, httpDeadlineScheduler, totalTimeoutMs))
+                .build();
+    }
+
+    @Bean
+    public MeterBinder httpClientPoolMetrics(PoolingHttpClientConnectionManager httpConnectionManager) {
+        return registry -> {
+            Gauge.builder("http.client.pool.leased", httpConnectionManager, cm -> cm.getTotalStats().getLeased())
+                    .description("Connections currently leased from the outbound pool")
+                    .register(registry);
+            Gauge.builder("http.client.pool.available", httpConnectionManager, cm -> cm.getTotalStats().getAvailable())
+                    .description("Idle connections kept alive in the outbound pool")
+                    .register(registry);
+            Gauge.builder("http.client.pool.pending", httpConnectionManager, cm -> cm.getTotalStats().getPending())
+                    .description("Requests waiting for a pooled connection")
+                    .register(registry);
+            Gauge.builder("http.client.pool.max", httpConnectionManager, cm -> cm.getTotalStats().getMax())
+                    .description("Maximum size of the outbound pool")
+                    .register(registry);
+        };
+    }
+}
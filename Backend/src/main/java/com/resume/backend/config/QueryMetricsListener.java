@@ -0,0 +1,139 @@
+package com.resume.backend.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Times every JDBC execution into a db.query histogram and logs the ones slower than the threshold,
+ * together with bind-parameter counts and the repository method that issued them.
+ */
+class QueryMetricsListener implements QueryExecutionListener {
+
+    private static final Logger log = LoggerFactory.getLogger("com.resume.backend.slow-query");
+
+    private static final String START_NANOS = "startNanos";
+    private static final String APP_PACKAGE = "com.resume.backend.";
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    private final Supplier<MeterRegistry> meterRegistry;
+    private final long slowThresholdNanos;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private volatile Counter slowQueries;
+
+    // The registry is looked up on first use: the DataSource is created before metrics are ready.
+    QueryMetricsListener(Supplier<MeterRegistry> meterRegistry, Duration slowThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(START_NANOS, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long start = execInfo.getCustomValue(START_NANOS, Long.class);
+        if (start == null || queryInfoList.isEmpty()) {
+            return;
+        }
+        long elapsed = System.nanoTime() - start;
+        String operation = operation(queryInfoList.get(0).getQuery());
+        timer(operation, execInfo.isSuccess()).record(elapsed, TimeUnit.NANOSECONDS);
+
+        if (elapsed >= slowThresholdNanos) {
+            slowQueryCounter().increment();
+            QueryInfo query = queryInfoList.get(0);
+            int parameterSets = query.getParametersList().size();
+            int parameters = parameterSets == 0 ? 0 : query.getParametersList().get(0).size();
+            log.warn("slow query elapsedMs={} operation={} batch={} batchSize={} params={} paramSets={} caller={} sql={}",
+                    TimeUnit.NANOSECONDS.toMillis(elapsed), operation, execInfo.isBatch(), execInfo.getBatchSize(),
+                    parameters, parameterSets, caller(), query.getQuery());
+        }
+    }
+
+    private Counter slowQueryCounter() {
+        Counter counter = slowQueries;
+        if (counter == null) {
+            counter = Counter.builder("db.query.slow")
+                    .description("JDBC executions above app.db.slow-query-threshold")
+                    .register(meterRegistry.get());
+            slowQueries = counter;
+        }
+        return counter;
+    }
+
+    private Timer timer(String operation, boolean success) {
+        return timers.computeIfAbsent(operation + success, key -> Timer.builder("db.query")
+                .description("JDBC statement execution time")
+                .tag("operation", operation)
+                .tag("outcome", success ? "success" : "error")
+                .publishPercentileHistogram()
+                .register(meterRegistry.get()));
+    }
+
+    private static String operation(String sql) {
+        String trimmed = sql.stripLeading();
+        int end = 0;
+        while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+            end++;
+        }
+        String keyword = trimmed.substring(0, end).toLowerCase(Locale.ROOT);
+        switch (keyword) {
+            case "select":
+            case "insert":
+            case "update":
+            case "delete":
+                return keyword;
+            case "call":
+                return "call";
+            default:
+                return "other";
+        }
+    }
+
+    /**
+     * Spring Data repositories are JDK proxies, so the repository method is the last proxy frame before the
+     * first application frame; that application frame is the service method that called it.
+     */
+    private static String caller() {
+        return STACK_WALKER.walk(frames -> {
+            String repositoryMethod = null;
+            for (StackWalker.StackFrame frame : (Iterable<StackWalker.StackFrame>) frames::iterator) {
+                Class<?> type = frame.getDeclaringClass();
+                if (Proxy.isProxyClass(type)) {
+                    repositoryMethod = repositoryName(type).map(name -> name + "." + frame.getMethodName()).orElse(repositoryMethod);
+                } else if (type.getName().startsWith(APP_PACKAGE) && type != QueryMetricsListener.class) {
+                    String appFrame = type.getSimpleName() + "." + frame.getMethodName();
+                    return repositoryMethod == null ? appFrame : repositoryMethod + " <- " + appFrame;
+                }
+            }
+            return repositoryMethod == null ? "unknown" : repositoryMethod;
+        });
+    }
+
+    private static Optional<String> repositoryName(Class<?> proxyType) {
+        for (Class<?> candidate : proxyType.getInterfaces()) {
+            if (candidate.getName().startsWith(APP_PACKAGE)) {
+                return Optional.of(candidate.getSimpleName());
+            }
+        }
+        return Optional.empty();
+    }
+}
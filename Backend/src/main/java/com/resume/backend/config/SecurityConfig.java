@@ -1,20 +1,64 @@
 package com.resume.backend.config;
 
+import com.resume.backend.auth.service.TokenService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig extends WebSecurityConfigurerAdapter {
 
+    private static final String METRICS_ROLE = "METRICS";
+
+    private final TokenService tokenService;
+
+    public SecurityConfig(TokenService tokenService) {
+        this.tokenService = tokenService;
+    }
+
+    /**
+     * BCrypt at app.auth.bcrypt.strength; hashes stored with a lower cost report upgradeEncoding() and
+     * are rehashed on the next successful login.
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder(ObjectProvider<MeterRegistry> meterRegistry,
+                                           @Value("${app.auth.bcrypt.strength:10}") int strength) {
+        return new TimedPasswordEncoder(new BCryptPasswordEncoder(strength), meterRegistry::getObject);
+    }
+
+    /**
+     * The only HTTP Basic account: the metrics scraper, and only when app.metrics.scrape-password is set.
+     * Without it the actuator metrics endpoints cannot be reached at all.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public UserDetailsService metricsScraperUsers(PasswordEncoder passwordEncoder,
+                                                  @Value("${app.metrics.scrape-username:prometheus}") String username,
+                                                  @Value("${app.metrics.scrape-password:}") String password) {
+        InMemoryUserDetailsManager users = new InMemoryUserDetailsManager();
+        if (!password.isBlank()) {
+            users.createUser(User.withUsername(username)
+                    .password(passwordEncoder.encode(password))
+                    .roles(METRICS_ROLE)
+                    .build());
+        }
+        return users;
     }
 
     @Override
@@ -22,15 +66,36 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
 
         http
             .csrf().disable()
+            .sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+            .and()
+            .addFilterBefore(new TokenAuthenticationFilter(tokenService), UsernamePasswordAuthenticationFilter.class)
+            .exceptionHandling()
+            .defaultAuthenticationEntryPointFor(
+                new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED), new AntPathRequestMatcher("/api/**"))
+            .and()
             .authorizeRequests()
 
+            // Saved resumes belong to an account; ResumeController also checks the owner.
+            .antMatchers(
+                "/api/v1/resume/save/**",
+                "/api/v1/resume/delete/**",
+                "/api/v1/resume/user/**"
+            ).authenticated()
+            .antMatchers(HttpMethod.GET, "/api/v1/resume/{id:\\d+}").authenticated()
+            .antMatchers(HttpMethod.DELETE, "/api/v1/resume/*").authenticated()
+
+            // Internal metrics: per-host timings, auth rejection counters, cache stats. Scraper only.
+            .antMatchers("/actuator/prometheus", "/actuator/metrics/**", "/actuator/startup").hasRole(METRICS_ROLE)
+
             .antMatchers(
                 "/",
                 "/index.html",
                 "/vite.svg",
                 "/assets/**",
                 "/static/**",
-                "/api/**"
+                "/api/**",
+                "/openai/**",
+                "/actuator/health"
             ).permitAll()
 
             .anyRequest().authenticated()
@@ -0,0 +1,62 @@
+package com.resume.backend.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.http.HttpHost;
+import org.apache.http.conn.UnsupportedSchemeException;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.LayeredConnectionSocketFactory;
+import org.apache.http.protocol.HttpContext;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Times outbound connects as http.client.connect, per host; for https this includes the TLS handshake.
+ * Requests served on a pooled keep-alive connection never get here, so the count is how often the pool dialed.
+ */
+class TimedConnectionSocketFactory implements LayeredConnectionSocketFactory {
+
+    private final ConnectionSocketFactory delegate;
+    private final Supplier<MeterRegistry> meterRegistry;
+
+    TimedConnectionSocketFactory(ConnectionSocketFactory delegate, Supplier<MeterRegistry> meterRegistry) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Socket createSocket(HttpContext context) throws IOException {
+        return delegate.createSocket(context);
+    }
+
+    @Override
+    public Socket connectSocket(int connectTimeout, Socket socket, HttpHost host, InetSocketAddress remoteAddress,
+                                InetSocketAddress localAddress, HttpContext context) throws IOException {
+        long started = System.nanoTime();
+        String outcome = "error";
+        try {
+            Socket connected = delegate.connectSocket(connectTimeout, socket, host, remoteAddress, localAddress, context);
+            outcome = "success";
+            return connected;
+        } finally {
+            Timer.builder("http.client.connect")
+                    .description("TCP connect plus TLS handshake for new outbound connections")
+                    .tag("host", host.getHostName())
+                    .tag("outcome", outcome)
+                    .register(meterRegistry.get())
+                    .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public Socket createLayeredSocket(Socket socket, String target, int port, HttpContext context) throws IOException {
+        if (!(delegate instanceof LayeredConnectionSocketFactory layered)) {
+            throw new UnsupportedSchemeException("Connection upgrade is not supported by " + delegate.getClass().getSimpleName());
+        }
+        return layered.createLayeredSocket(socket, target, port, context);
+    }
+}
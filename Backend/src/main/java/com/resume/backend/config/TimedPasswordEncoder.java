@@ -0,0 +1,48 @@
+package com.resume.backend.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.cloud.sleuth.annotation.NewSpan;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.function.Supplier;
+
+/**
+ * Records every hash and verify as auth.password.hash (tag operation), and as its own span, so BCrypt's
+ * share of a login or signup is visible next to the database and HTTP work around it.
+ */
+class TimedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final Supplier<MeterRegistry> meterRegistry;
+
+    TimedPasswordEncoder(PasswordEncoder delegate, Supplier<MeterRegistry> meterRegistry) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    @NewSpan("password-encode")
+    public String encode(CharSequence rawPassword) {
+        return timer("encode").record(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    @NewSpan("password-matches")
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        Boolean matches = timer("matches").record(() -> delegate.matches(rawPassword, encodedPassword));
+        return Boolean.TRUE.equals(matches);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private Timer timer(String operation) {
+        return Timer.builder("auth.password.hash")
+                .description("BCrypt hashing and verification")
+                .tag("operation", operation)
+                .register(meterRegistry.get());
+    }
+}
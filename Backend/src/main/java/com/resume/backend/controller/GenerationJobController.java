@@ -0,0 +1,84 @@
+package com.resume.backend.controller;
+
+import com.resume.backend.service.GenerationJob;
+import com.resume.backend.service.GenerationJobService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.Map;
+
+/**
+ * Asynchronous variants of the generation endpoints. Submitting returns a job id immediately;
+ * the result is fetched by polling, or long-polling with {@code waitMs}, which does not hold a request thread.
+ */
+@RestController
+@CrossOrigin("*")
+@RequestMapping("/api/v1/jobs")
+public class GenerationJobController {
+
+    private static final Logger log = LoggerFactory.getLogger(GenerationJobController.class);
+    private static final long MAX_WAIT_MS = 30_000L;
+
+    private final GenerationJobService generationJobService;
+
+    public GenerationJobController(GenerationJobService generationJobService) {
+        this.generationJobService = generationJobService;
+    }
+
+    @PostMapping("/resume/generate")
+    public ResponseEntity<Map<String, Object>> submitResume(@RequestBody Map<String, String> requestBody) {
+        try {
+            GenerationJob job = generationJobService.submitResume(requestBody.get("userDescription"));
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(job.toResponse());
+        } catch (TaskRejectedException e) {
+            return queueFull();
+        }
+    }
+
+    @PostMapping("/interview/questions/skills")
+    public ResponseEntity<Map<String, Object>> submitInterviewQuestions(
+            @RequestBody(required = false) Map<String, Object> requestBody
+    ) {
+        try {
+            GenerationJob job = generationJobService.submitInterviewQuestions(ResumeController.extractSkills(requestBody));
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(job.toResponse());
+        } catch (TaskRejectedException e) {
+            return queueFull();
+        }
+    }
+
+    @GetMapping("/{jobId}")
+    public DeferredResult<ResponseEntity<Map<String, Object>>> getJob(
+            @PathVariable String jobId,
+            @RequestParam(defaultValue = "0") long waitMs
+    ) {
+        long timeout = Math.max(1L, Math.min(waitMs, MAX_WAIT_MS));
+        GenerationJob job = generationJobService.getJob(jobId);
+        DeferredResult<ResponseEntity<Map<String, Object>>> deferred = new DeferredResult<>(timeout);
+
+        if (job == null) {
+            deferred.setResult(ResponseEntity.notFound().build());
+            return deferred;
+        }
+        if (job.isDone() || waitMs <= 0) {
+            deferred.setResult(ResponseEntity.ok(job.toResponse()));
+            return deferred;
+        }
+
+        deferred.onTimeout(() -> deferred.setResult(ResponseEntity.ok(job.toResponse())));
+        job.getResult().whenComplete((result, error) -> deferred.setResult(ResponseEntity.ok(job.toResponse())));
+        return deferred;
+    }
+
+    private ResponseEntity<Map<String, Object>> queueFull() {
+        log.warn("Rejected generation job: queue is full");
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header("Retry-After", "5")
+                .body(Map.of("message", "Generation queue is full. Try again shortly."));
+    }
+}
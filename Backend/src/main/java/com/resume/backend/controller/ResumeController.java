@@ -1,14 +1,25 @@
 package com.resume.backend.controller;
 
 import com.resume.backend.entity.Resume;
+import com.resume.backend.llm.LlmThrottledException;
 import com.resume.backend.service.ResumeService;
+import com.resume.backend.service.ResumeStreamListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.Principal;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -23,10 +34,18 @@ public class ResumeController {
 
     private static final Logger log = LoggerFactory.getLogger(ResumeController.class);
 
+    private static final long STREAM_TIMEOUT_MS = 120_000L;
+    private static final String NDJSON = "application/x-ndjson";
+
     private final ResumeService resumeService;
+    private final TaskExecutor llmStreamExecutor;
 
-    public ResumeController(ResumeService resumeService) {
+    public ResumeController(
+            ResumeService resumeService,
+            @Qualifier("llmStreamExecutor") TaskExecutor llmStreamExecutor
+    ) {
         this.resumeService = resumeService;
+        this.llmStreamExecutor = llmStreamExecutor;
     }
 
     @PostMapping("/resume/generate")
@@ -35,28 +54,105 @@ public class ResumeController {
     ) throws IOException {
 
         String userDescription = requestBody.get("userDescription");
-        Map<String, Object> response = resumeService.generateResumeResponse(userDescription);
-        return new ResponseEntity<>(response, HttpStatus.OK);
+        try {
+            Map<String, Object> response = resumeService.generateResumeResponse(userDescription);
+            return new ResponseEntity<>(response, HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        } catch (LlmThrottledException e) {
+            return ResponseEntity.status(e.getStatus())
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                    .body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    @PostMapping(value = "/resume/generate/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> generateResumeStream(@RequestBody Map<String, String> requestBody) {
+        String userDescription = requestBody.get("userDescription");
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MS);
+        try {
+            llmStreamExecutor.execute(() -> streamResume(userDescription, emitter));
+        } catch (TaskRejectedException e) {
+            log.warn("Rejected streaming resume generation: stream pool is full");
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+        }
+        return ResponseEntity.ok(emitter);
     }
 
     @PostMapping("/resume/save")
-    public ResponseEntity<Resume> saveResume(@RequestBody Resume resume) {
+    public ResponseEntity<Resume> saveResume(@RequestBody Resume resume, Principal principal) {
+        if (!claimForCaller(List.of(resume), principal)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
         log.info("Received resume save request: {}", resume);
         Resume savedResume = resumeService.saveResume(resume);
         log.info("Saved resume with id: {}", savedResume.getId());
         return new ResponseEntity<>(savedResume, HttpStatus.CREATED);
     }
 
+    @PostMapping("/resume/save/batch")
+    public ResponseEntity<?> saveResumes(@RequestBody List<Resume> resumes, Principal principal) {
+        if (!claimForCaller(resumes, principal)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        try {
+            List<Resume> saved = resumeService.saveResumes(resumes);
+            log.info("Saved {} resumes in one batch", saved.size());
+            return new ResponseEntity<>(saved, HttpStatus.CREATED);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    @PostMapping("/resume/delete/batch")
+    public ResponseEntity<Map<String, Object>> deleteResumes(@RequestBody Map<String, List<Long>> requestBody,
+                                                             Principal principal) {
+        List<Long> ids = requestBody.getOrDefault("ids", Collections.emptyList());
+        try {
+            if (!ownsAll(ids, principal)) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+            }
+            int deleted = resumeService.deleteResumes(ids);
+            return ResponseEntity.ok(Map.of("deleted", deleted));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    @GetMapping(value = "/resume/user/{userEmail}/export", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> exportResumes(@PathVariable String userEmail, Principal principal) {
+        if (!isCaller(userEmail, principal)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        StreamingResponseBody body = out -> resumeService.exportResumes(userEmail, out);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"resumes.ndjson\"")
+                .contentType(MediaType.parseMediaType(NDJSON))
+                .body(body);
+    }
+
     @GetMapping("/resume/user/{userEmail}")
-    public ResponseEntity<List<Resume>> getResumesByUserEmail(@PathVariable String userEmail) {
-        List<Resume> resumes = resumeService.getResumesByUserEmail(userEmail);
-        return ResponseEntity.ok(resumes);
+    public ResponseEntity<Map<String, Object>> getResumesByUserEmail(
+            @PathVariable String userEmail,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit,
+            Principal principal
+    ) {
+        if (!isCaller(userEmail, principal)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        try {
+            return ResponseEntity.ok(resumeService.getResumeSummaries(userEmail, cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
     }
 
     @GetMapping("/resume/{id}")
-    public ResponseEntity<Resume> getResumeById(@PathVariable Long id) {
+    public ResponseEntity<Resume> getResumeById(@PathVariable Long id, Principal principal) {
         Resume resume = resumeService.getResumeById(id);
-        if (resume != null) {
+        // Someone else's resume is reported as missing rather than forbidden, so ids cannot be probed.
+        if (resume != null && isCaller(resume.getUserEmail(), principal)) {
             return ResponseEntity.ok(resume);
         } else {
             return ResponseEntity.notFound().build();
@@ -64,7 +160,10 @@ public class ResumeController {
     }
 
     @DeleteMapping("/resume/{id}")
-    public ResponseEntity<Void> deleteResume(@PathVariable Long id) {
+    public ResponseEntity<Void> deleteResume(@PathVariable Long id, Principal principal) {
+        if (!ownsAll(List.of(id), principal)) {
+            return ResponseEntity.notFound().build();
+        }
         resumeService.deleteResume(id);
         return ResponseEntity.noContent().build();
     }
@@ -77,6 +176,12 @@ public class ResumeController {
             List<String> skills = extractSkills(requestBody);
             Map<String, Object> response = resumeService.generateInterviewQuestionsBySkills(skills);
             return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        } catch (LlmThrottledException e) {
+            return ResponseEntity.status(e.getStatus())
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                    .body(Map.of("message", e.getMessage()));
         } catch (Exception e) {
             log.error("Failed to generate skill-based interview questions", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -89,7 +194,86 @@ public class ResumeController {
         return ResponseEntity.ok(createFallbackResponse(Collections.emptyList()));
     }
 
-    private List<String> extractSkills(Map<String, Object> requestBody) {
+    private static boolean isCaller(String userEmail, Principal principal) {
+        return principal != null && userEmail != null && userEmail.trim().equalsIgnoreCase(principal.getName());
+    }
+
+    private boolean ownsAll(List<Long> ids, Principal principal) {
+        for (String owner : resumeService.getOwnerEmails(ids)) {
+            if (!isCaller(owner, principal)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * New resumes are filed under the caller; updates are only allowed on the caller's own resumes.
+     */
+    private boolean claimForCaller(List<Resume> resumes, Principal principal) {
+        List<Long> existingIds = new ArrayList<>();
+        for (Resume resume : resumes) {
+            if (resume.getUserEmail() != null && !resume.getUserEmail().isBlank()
+                    && !isCaller(resume.getUserEmail(), principal)) {
+                return false;
+            }
+            resume.setUserEmail(principal.getName());
+            if (resume.getId() != null) {
+                existingIds.add(resume.getId());
+            }
+        }
+        return ownsAll(existingIds, principal);
+    }
+
+    private void streamResume(String userDescription, SseEmitter emitter) {
+        try {
+            Map<String, Object> response = resumeService.streamResumeResponse(userDescription, new ResumeStreamListener() {
+                @Override
+                public void onToken(String text) {
+                    sendEvent(emitter, "token", Collections.singletonMap("text", text));
+                }
+
+                @Override
+                public void onSection(String name, Object value) {
+                    Map<String, Object> section = new HashMap<>();
+                    section.put("name", name);
+                    section.put("value", value);
+                    sendEvent(emitter, "section", section);
+                }
+            });
+            sendEvent(emitter, "done", response);
+            emitter.complete();
+        } catch (Exception e) {
+            log.error("Streaming resume generation failed", e);
+            Map<String, Object> error = new HashMap<>();
+            error.put("message", "Resume generation failed");
+            if (e instanceof LlmThrottledException throttled) {
+                error.put("message", throttled.getMessage());
+                error.put("retryAfter", throttled.getRetryAfterSeconds());
+            } else if (e instanceof IllegalArgumentException) {
+                // The request itself cannot be served (e.g. too long for the context window); retrying won't help.
+                error.put("message", e.getMessage());
+                error.put("status", HttpStatus.BAD_REQUEST.value());
+            }
+            try {
+                emitter.send(SseEmitter.event().name("error").data(error, MediaType.APPLICATION_JSON));
+            } catch (IOException | IllegalStateException ignored) {
+                // client already gone
+            }
+            emitter.complete();
+        }
+    }
+
+    private void sendEvent(SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+        } catch (IOException e) {
+            // Client disconnected; abort the upstream stream instead of paying for unread tokens.
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static List<String> extractSkills(Map<String, Object> requestBody) {
         if (requestBody == null || !requestBody.containsKey("skills")) {
             return Collections.emptyList();
         }
@@ -0,0 +1,118 @@
+package com.resume.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.List;
+
+/**
+ * Resume JSON produced by the model for /resume/generate. Missing lists are read as empty lists.
+ */
+public record GeneratedResume(String meta, ResumeData data) {
+
+    public record ResumeData(
+            PersonalInformation personalInformation,
+            String summary,
+            List<Skill> skills,
+            List<Experience> experience,
+            List<Education> education,
+            List<Certification> certifications,
+            List<Project> projects,
+            List<Achievement> achievements,
+            List<NamedItem> languages,
+            List<NamedItem> interests
+    ) {
+        public ResumeData {
+            skills = orEmpty(skills);
+            experience = orEmpty(experience);
+            education = orEmpty(education);
+            certifications = orEmpty(certifications);
+            projects = orEmpty(projects);
+            achievements = orEmpty(achievements);
+            languages = orEmpty(languages);
+            interests = orEmpty(interests);
+        }
+    }
+
+    public record PersonalInformation(
+            String fullName,
+            String email,
+            String phoneNumber,
+            String location,
+            @JsonAlias("linkedin") String linkedIn,
+            @JsonAlias("github") String gitHub,
+            String portfolio
+    ) {}
+
+    public record Skill(String title, String level) {
+
+        @JsonCreator(mode = JsonCreator.Mode.PROPERTIES)
+        public Skill {
+        }
+
+        // Models sometimes list skills as plain strings instead of {title, level} objects.
+        @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+        public static Skill of(String title) {
+            return new Skill(title, null);
+        }
+    }
+
+    public record Experience(String jobTitle, String company, String location, String duration, String responsibility) {
+
+        // Models give responsibility either as one string or as a list of bullet points; bullets are joined by lines.
+        @JsonCreator(mode = JsonCreator.Mode.PROPERTIES)
+        static Experience of(@JsonProperty("jobTitle") String jobTitle, @JsonProperty("company") String company,
+                             @JsonProperty("location") String location, @JsonProperty("duration") String duration,
+                             @JsonProperty("responsibility") JsonNode responsibility) {
+            return new Experience(jobTitle, company, location, duration, lines(responsibility));
+        }
+
+        private static String lines(JsonNode node) {
+            if (node == null || node.isNull()) {
+                return null;
+            }
+            if (!node.isArray()) {
+                return node.asText();
+            }
+            StringBuilder joined = new StringBuilder();
+            for (JsonNode item : node) {
+                if (joined.length() > 0) {
+                    joined.append('\n');
+                }
+                joined.append(item.asText());
+            }
+            return joined.toString();
+        }
+    }
+
+    public record Education(String degree, String university, String location, String graduationYear) {}
+
+    public record Certification(String title, String issuingOrganization, String year) {}
+
+    public record Project(String title, String description, List<String> technologiesUsed, String githubLink) {
+        public Project {
+            technologiesUsed = orEmpty(technologiesUsed);
+        }
+    }
+
+    public record Achievement(String title, String year, String extraInformation) {}
+
+    public record NamedItem(Integer id, String name) {
+
+        @JsonCreator(mode = JsonCreator.Mode.PROPERTIES)
+        public NamedItem {
+        }
+
+        // Models often list languages and interests as plain strings instead of {id, name} objects.
+        @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+        public static NamedItem of(String name) {
+            return new NamedItem(null, name);
+        }
+    }
+
+    private static <T> List<T> orEmpty(List<T> list) {
+        return list == null ? List.of() : list;
+    }
+}
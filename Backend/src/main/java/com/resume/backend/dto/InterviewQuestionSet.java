@@ -0,0 +1,15 @@
+package com.resume.backend.dto;
+
+import java.util.List;
+
+/**
+ * Interview prep JSON produced by the model for /interview/questions/skills.
+ */
+public record InterviewQuestionSet(String meta, List<InterviewQuestion> questions) {
+
+    public InterviewQuestionSet {
+        questions = questions == null ? List.of() : questions;
+    }
+
+    public record InterviewQuestion(String question, String answer, String category) {}
+}
@@ -0,0 +1,26 @@
+package com.resume.backend.entity;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+
+@Embeddable
+public class ResumeEducation {
+
+    @Column(name = "degree", length = 255)
+    private String degree;
+
+    @Column(name = "university", length = 255)
+    private String university;
+
+    @Column(name = "graduation_year", length = 50)
+    private String graduationYear;
+
+    public String getDegree() { return degree; }
+    public void setDegree(String degree) { this.degree = degree; }
+
+    public String getUniversity() { return university; }
+    public void setUniversity(String university) { this.university = university; }
+
+    public String getGraduationYear() { return graduationYear; }
+    public void setGraduationYear(String graduationYear) { this.graduationYear = graduationYear; }
+}
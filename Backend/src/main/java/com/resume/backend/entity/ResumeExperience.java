@@ -0,0 +1,26 @@
+package com.resume.backend.entity;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+
+@Embeddable
+public class ResumeExperience {
+
+    @Column(name = "company", length = 255)
+    private String company;
+
+    @Column(name = "position", length = 255)
+    private String position;
+
+    @Column(name = "duration", length = 100)
+    private String duration;
+
+    public String getCompany() { return company; }
+    public void setCompany(String company) { this.company = company; }
+
+    public String getPosition() { return position; }
+    public void setPosition(String position) { this.position = position; }
+
+    public String getDuration() { return duration; }
+    public void setDuration(String duration) { this.duration = duration; }
+}
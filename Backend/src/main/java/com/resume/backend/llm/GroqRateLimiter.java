@@ -0,0 +1,210 @@
+package com.resume.backend.llm;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Client-side budget for Groq calls.
+ * Two token buckets track the per-key quotas (requests/min and tokens/min, where a call costs its prompt
+ * estimate plus max_tokens). On top of that an AIMD limit caps concurrent calls: it grows by roughly one
+ * per round trip while calls succeed quickly and is cut multiplicatively on a 429 or a latency spike.
+ * A 429 with Retry-After also pauses all callers until the server says to resume.
+ */
+@Component
+public class GroqRateLimiter {
+
+    private static final long MIN_RETRY_AFTER_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+
+    private final TokenBucket requestBucket;
+    private final TokenBucket tokenBucket;
+    private final Duration maxWait;
+    private final double minLimit;
+    private final double maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+    private final Counter throttledResponses;
+    private final LongSupplier clock;
+
+    private double limit;
+    private int inFlight;
+    private long pausedUntil;
+
+    @Autowired
+    public GroqRateLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${app.groq.rate.requests-per-minute:30}") int requestsPerMinute,
+            @Value("${app.groq.rate.tokens-per-minute:12000}") int tokensPerMinute,
+            @Value("${app.groq.rate.max-wait:30s}") Duration maxWait,
+            @Value("${app.groq.concurrency.initial:4}") int initialLimit,
+            @Value("${app.groq.concurrency.min:1}") int minLimit,
+            @Value("${app.groq.concurrency.max:32}") int maxLimit,
+            @Value("${app.groq.concurrency.backoff-ratio:0.7}") double backoffRatio,
+            @Value("${app.groq.concurrency.latency-threshold:20s}") Duration latencyThreshold
+    ) {
+        this(meterRegistry, requestsPerMinute, tokensPerMinute, maxWait, initialLimit, minLimit, maxLimit,
+                backoffRatio, latencyThreshold, System::nanoTime);
+    }
+
+    /**
+     * @param clock nanosecond time source, System::nanoTime outside tests
+     */
+    GroqRateLimiter(MeterRegistry meterRegistry, int requestsPerMinute, int tokensPerMinute, Duration maxWait,
+                    int initialLimit, int minLimit, int maxLimit, double backoffRatio, Duration latencyThreshold,
+                    LongSupplier clock) {
+        this.clock = clock;
+        long now = clock.getAsLong();
+        this.requestBucket = new TokenBucket(requestsPerMinute, now);
+        this.tokenBucket = new TokenBucket(tokensPerMinute, now);
+        this.maxWait = maxWait;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.limit = initialLimit;
+        this.pausedUntil = now;
+
+        Gauge.builder("groq.concurrency.limit", this, limiter -> limiter.limit)
+                .description("Current adaptive concurrency limit for Groq calls")
+                .register(meterRegistry);
+        Gauge.builder("groq.concurrency.in-flight", this, limiter -> limiter.inFlight)
+                .description("Groq calls currently holding a permit")
+                .register(meterRegistry);
+        this.throttledResponses = Counter.builder("groq.throttled")
+                .description("Groq responses with status 429")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Blocks until the call fits both quotas and the concurrency limit, or fails with a 429
+     * {@link LlmThrottledException} once app.groq.rate.max-wait elapses.
+     */
+    public Permit acquire(int estimatedTokens) {
+        long deadline = clock.getAsLong() + maxWait.toNanos();
+        lock.lock();
+        try {
+            while (true) {
+                long now = clock.getAsLong();
+                long waitNanos;
+                if (now - pausedUntil < 0) {
+                    waitNanos = pausedUntil - now;
+                } else if (inFlight >= (int) limit) {
+                    waitNanos = deadline - now;
+                } else {
+                    requestBucket.refill(now);
+                    tokenBucket.refill(now);
+                    double cost = Math.min(estimatedTokens, tokenBucket.capacity);
+                    waitNanos = Math.max(requestBucket.nanosUntil(1), tokenBucket.nanosUntil(cost));
+                    if (waitNanos == 0) {
+                        requestBucket.take(1);
+                        tokenBucket.take(cost);
+                        inFlight++;
+                        return new Permit(now);
+                    }
+                }
+
+                long remaining = deadline - now;
+                if (remaining <= 0) {
+                    // waitNanos is the quota or pause still to run out; a full concurrency limit has no such estimate.
+                    throw new LlmThrottledException("Groq request budget exhausted; try again shortly",
+                            HttpStatus.TOO_MANY_REQUESTS, Duration.ofNanos(Math.max(waitNanos, MIN_RETRY_AFTER_NANOS)),
+                            null);
+                }
+                changed.awaitNanos(Math.min(waitNanos, remaining));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for Groq request budget");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public class Permit {
+
+        private final long startedAt;
+        private boolean released;
+
+        private Permit(long startedAt) {
+            this.startedAt = startedAt;
+        }
+
+        public void succeeded() {
+            boolean slow = clock.getAsLong() - startedAt > latencyThresholdNanos;
+            release(slow ? -1 : 1, 0L);
+        }
+
+        public void failed() {
+            release(0, 0L);
+        }
+
+        public void throttled(Duration retryAfter) {
+            throttledResponses.increment();
+            release(-1, retryAfter.toNanos());
+        }
+
+        private void release(int direction, long pauseNanos) {
+            lock.lock();
+            try {
+                if (released) {
+                    return;
+                }
+                released = true;
+                inFlight--;
+                if (direction > 0) {
+                    limit = Math.min(maxLimit, limit + 1.0 / limit);
+                } else if (direction < 0) {
+                    limit = Math.max(minLimit, limit * backoffRatio);
+                }
+                long resumeAt = clock.getAsLong() + pauseNanos;
+                if (pauseNanos > 0 && resumeAt - pausedUntil > 0) {
+                    pausedUntil = resumeAt;
+                }
+                changed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private static final class TokenBucket {
+
+        private final double capacity;
+        private final double refillPerNano;
+        private double available;
+        private long lastRefill;
+
+        private TokenBucket(int perMinute, long now) {
+            this.capacity = perMinute;
+            this.refillPerNano = perMinute / (double) TimeUnit.MINUTES.toNanos(1);
+            this.available = perMinute;
+            this.lastRefill = now;
+        }
+
+        private void refill(long now) {
+            available = Math.min(capacity, available + (now - lastRefill) * refillPerNano);
+            lastRefill = now;
+        }
+
+        private long nanosUntil(double amount) {
+            return available >= amount ? 0L : (long) Math.ceil((amount - available) / refillPerNano);
+        }
+
+        private void take(double amount) {
+            available -= amount;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.resume.backend.llm;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Incremental scanner over a JSON document that arrives in chunks.
+ * Whenever a member of an object at {@code sectionDepth} is complete, its key and raw JSON value are
+ * reported, so callers can act on {@code data.summary} before the model has finished {@code data.projects}.
+ * Text before the first '{' (prose, markdown fences) is ignored.
+ */
+public class JsonSectionScanner {
+
+    private final int sectionDepth;
+    private final BiConsumer<String, String> onSection;
+    private final StringBuilder buffer = new StringBuilder();
+
+    private char[] containers = new char[16];
+    private int depth;
+    private boolean started;
+    private boolean inString;
+    private boolean escaped;
+    private int stringStart = -1;
+    private String candidateKey;
+    private String pendingKey;
+    private int valueStart = -1;
+
+    public JsonSectionScanner(int sectionDepth, BiConsumer<String, String> onSection) {
+        this.sectionDepth = sectionDepth;
+        this.onSection = onSection;
+    }
+
+    public void feed(CharSequence chunk) {
+        int from = buffer.length();
+        buffer.append(chunk);
+        for (int i = from; i < buffer.length(); i++) {
+            consume(buffer.charAt(i), i);
+        }
+    }
+
+    public boolean isComplete() {
+        return started && depth == 0;
+    }
+
+    private void consume(char c, int index) {
+        if (!started) {
+            if (c == '{') {
+                started = true;
+                push(c);
+            }
+            return;
+        }
+        if (depth == 0) {
+            return;
+        }
+
+        if (inString) {
+            if (escaped) {
+                escaped = false;
+            } else if (c == '\\') {
+                escaped = true;
+            } else if (c == '"') {
+                inString = false;
+                if (atSectionLevel() && pendingKey == null) {
+                    candidateKey = buffer.substring(stringStart + 1, index);
+                }
+            }
+            return;
+        }
+
+        switch (c) {
+            case '"' -> {
+                inString = true;
+                stringStart = index;
+            }
+            case ':' -> {
+                if (atSectionLevel() && pendingKey == null && candidateKey != null) {
+                    pendingKey = candidateKey;
+                    valueStart = index + 1;
+                }
+            }
+            case ',' -> {
+                if (atSectionLevel()) {
+                    emit(index);
+                }
+            }
+            case '{', '[' -> push(c);
+            case '}', ']' -> {
+                if (atSectionLevel()) {
+                    emit(index);
+                }
+                depth--;
+            }
+            default -> {
+            }
+        }
+    }
+
+    private boolean atSectionLevel() {
+        return depth == sectionDepth && containers[depth - 1] == '{';
+    }
+
+    private void emit(int end) {
+        if (pendingKey != null) {
+            String raw = buffer.substring(valueStart, end).trim();
+            if (!raw.isEmpty()) {
+                onSection.accept(pendingKey, raw);
+            }
+        }
+        pendingKey = null;
+        candidateKey = null;
+        valueStart = -1;
+    }
+
+    private void push(char container) {
+        if (depth == containers.length) {
+            char[] grown = new char[depth * 2];
+            System.arraycopy(containers, 0, grown, 0, depth);
+            containers = grown;
+        }
+        containers[depth++] = container;
+    }
+}
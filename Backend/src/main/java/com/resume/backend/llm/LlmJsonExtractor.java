@@ -0,0 +1,124 @@
+package com.resume.backend.llm;
+
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.JsonEOFException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.springframework.cloud.sleuth.annotation.NewSpan;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pulls the first balanced JSON object out of a model completion and binds it to a DTO.
+ * The completion is read through Jackson's token stream starting at the first '{', so leading prose,
+ * markdown fences and anything after the closing brace are skipped without copying the text.
+ */
+@Component
+public class LlmJsonExtractor {
+
+    private static final int MAX_CANDIDATES = 3;
+    private static final int SNIPPET_RADIUS = 40;
+
+    private final ObjectMapper objectMapper;
+    private final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    public LlmJsonExtractor(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @NewSpan("llm-parse")
+    public <T> T extract(String completion, Class<T> type) {
+        if (completion == null || completion.isBlank()) {
+            throw new LlmOutputException("Model returned an empty completion", 0, "", true, null);
+        }
+
+        ObjectReader reader = readers.computeIfAbsent(type, t -> objectMapper.readerFor(t)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .with(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY)
+                .with(DeserializationFeature.UNWRAP_SINGLE_VALUE_ARRAYS));
+
+        LlmOutputException firstFailure = null;
+        int start = completion.indexOf('{');
+        for (int attempt = 0; start >= 0 && attempt < MAX_CANDIDATES; attempt++) {
+            try {
+                return readObjectAt(completion, start, reader);
+            } catch (LlmOutputException e) {
+                if (firstFailure == null) {
+                    firstFailure = e;
+                }
+                if (e.isTruncated()) {
+                    // Later candidates are nested inside this one and would be truncated as well.
+                    break;
+                }
+            }
+            start = completion.indexOf('{', start + 1);
+        }
+
+        if (firstFailure != null) {
+            throw firstFailure;
+        }
+        throw new LlmOutputException("Model completion contains no JSON object: \"" + snippet(completion, 0) + "\"",
+                0, "", false, null);
+    }
+
+    private <T> T readObjectAt(String completion, int start, ObjectReader reader) {
+        StringReader source = new StringReader(completion);
+        JsonParser parser = null;
+        try {
+            source.skip(start);
+            parser = objectMapper.getFactory().createParser(source);
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new LlmOutputException("Expected a JSON object at offset " + start, start, "", false, null);
+            }
+            return reader.readValue(parser);
+        } catch (JsonProcessingException e) {
+            JsonLocation location = e.getLocation();
+            long offset = start + (location == null ? 0 : Math.max(0, location.getCharOffset()));
+            String path = parser == null ? "" : parser.getParsingContext().pathAsPointer().toString();
+            boolean truncated = isTruncation(e);
+            String message = (truncated ? "Model completion ended inside JSON" : "Malformed JSON in model completion")
+                    + " at offset " + offset
+                    + (path.isEmpty() ? "" : " (path " + path + ")")
+                    + ": " + e.getOriginalMessage()
+                    + " near \"" + snippet(completion, (int) offset) + "\"";
+            throw new LlmOutputException(message, offset, path, truncated, e);
+        } catch (IOException e) {
+            throw new LlmOutputException("Could not read model completion: " + e.getMessage(), start, "", false, e);
+        } finally {
+            if (parser != null) {
+                try {
+                    parser.close();
+                } catch (IOException ignored) {
+                    // reading from memory
+                }
+            }
+        }
+    }
+
+    private static boolean isTruncation(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof JsonEOFException) {
+                return true;
+            }
+            if (t instanceof JsonProcessingException processing
+                    && String.valueOf(processing.getOriginalMessage()).contains("end-of-input")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String snippet(String text, int offset) {
+        int from = Math.max(0, offset - SNIPPET_RADIUS);
+        int to = Math.min(text.length(), offset + SNIPPET_RADIUS);
+        return text.substring(from, to).replace('\n', ' ');
+    }
+}
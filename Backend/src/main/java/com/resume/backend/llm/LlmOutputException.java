@@ -0,0 +1,23 @@
+package com.resume.backend.llm;
+
+/**
+ * The model's completion did not contain a JSON object of the expected shape.
+ * Carries where parsing stopped so truncated or malformed completions can be diagnosed from logs.
+ */
+public class LlmOutputException extends RuntimeException {
+
+    private final long offset;
+    private final String path;
+    private final boolean truncated;
+
+    public LlmOutputException(String message, long offset, String path, boolean truncated, Throwable cause) {
+        super(message, cause);
+        this.offset = offset;
+        this.path = path;
+        this.truncated = truncated;
+    }
+
+    public long getOffset() { return offset; }
+    public String getPath() { return path; }
+    public boolean isTruncated() { return truncated; }
+}
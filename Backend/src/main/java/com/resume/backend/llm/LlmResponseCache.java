@@ -0,0 +1,282 @@
+package com.resume.backend.llm;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Content-addressed cache for parsed LLM completions (the typed DTOs bound from the model output).
+ * Entries live in a bounded in-memory tier and, when app.llm.cache.disk-dir is set,
+ * are also written to disk so they survive restarts. Both tiers hold the DTO's JSON, and every hit
+ * binds a fresh instance, so no caller can change what another one is served. The disk tier keeps an
+ * index of its files in write order and deletes the oldest once it holds more than
+ * app.llm.cache.disk-max-entries, or once they outlive the TTL.
+ */
+@Component
+public class LlmResponseCache {
+
+    private static final Logger log = LoggerFactory.getLogger(LlmResponseCache.class);
+
+    private final Cache<String, byte[]> memory;
+    private final ObjectMapper objectMapper;
+    private final Path diskDir;
+    private final Duration ttl;
+    private final int diskMaxEntries;
+    private final Counter diskHits;
+    private final Counter diskEvictions;
+    // Entry key -> write time in epoch millis, oldest first. Guarded by itself.
+    private final LinkedHashMap<String, Long> diskIndex = new LinkedHashMap<>();
+
+    @Autowired
+    public LlmResponseCache(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${app.llm.cache.max-entries:500}") long maxEntries,
+            @Value("${app.llm.cache.ttl:6h}") Duration ttl,
+            @Value("${app.llm.cache.disk-dir:}") String diskDir,
+            @Value("${app.llm.cache.disk-max-entries:5000}") int diskMaxEntries
+    ) {
+        this(objectMapper, meterRegistry, maxEntries, ttl, diskDir, diskMaxEntries, Ticker.systemTicker(),
+                ForkJoinPool.commonPool());
+    }
+
+    LlmResponseCache(ObjectMapper objectMapper, MeterRegistry meterRegistry, long maxEntries, Duration ttl,
+                     String diskDir, int diskMaxEntries, Ticker ticker, Executor maintenance) {
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        this.diskMaxEntries = diskMaxEntries;
+        this.memory = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .executor(maintenance)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, memory, "llm.responses");
+        this.diskHits = Counter.builder("llm.responses.disk.hits")
+                .description("Cache misses in memory that were served from the disk tier")
+                .register(meterRegistry);
+        this.diskEvictions = Counter.builder("llm.responses.disk.evictions")
+                .description("Disk tier entries deleted for exceeding the entry limit or the TTL")
+                .register(meterRegistry);
+        this.diskDir = diskDir.isBlank() ? null : Paths.get(diskDir);
+        if (this.diskDir != null) {
+            initDiskTier();
+        }
+    }
+
+    /**
+     * Content hash of everything that shapes the completion. The prompt template id is included so that
+     * publishing a new template version never serves answers produced by the previous one.
+     */
+    public String key(String model, String templateId, String prompt, double temperature, int maxTokens) {
+        String material = model + '\n' + templateId + '\n' + temperature + '\n' + maxTokens + '\n' + normalize(prompt);
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(material.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Returns a new instance bound from the cached JSON, or null on a miss or if the entry does not bind
+     * to {@code type}.
+     */
+    public <T> T get(String key, Class<T> type) {
+        byte[] cached = memory.getIfPresent(key);
+        if (cached != null) {
+            return bind(key, cached, type);
+        }
+        if (diskDir == null) {
+            return null;
+        }
+
+        Path file = diskDir.resolve(key + ".json");
+        try {
+            if (!Files.exists(file)) {
+                return null;
+            }
+            if (isExpired(file)) {
+                synchronized (diskIndex) {
+                    diskIndex.remove(key);
+                    delete(file);
+                }
+                return null;
+            }
+            byte[] fromDisk = Files.readAllBytes(file);
+            T value = bind(key, fromDisk, type);
+            if (value != null) {
+                memory.put(key, fromDisk);
+                diskHits.increment();
+            }
+            return value;
+        } catch (IOException e) {
+            log.warn("Could not read LLM cache entry {}", file, e);
+            return null;
+        }
+    }
+
+    public void put(String key, Object value) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            log.warn("Could not serialize LLM cache entry {}", key, e);
+            return;
+        }
+        memory.put(key, json);
+        if (diskDir == null) {
+            return;
+        }
+
+        Path file = diskDir.resolve(key + ".json");
+        try {
+            Path tmp = Files.createTempFile(diskDir, key, ".tmp");
+            Files.write(tmp, json);
+            synchronized (diskIndex) {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                diskIndex.remove(key);
+                diskIndex.put(key, System.currentTimeMillis());
+                trimDiskTier();
+            }
+        } catch (IOException e) {
+            log.warn("Could not write LLM cache entry {}", file, e);
+        }
+    }
+
+    // Entries in memory, after pending evictions have run.
+    long size() {
+        memory.cleanUp();
+        return memory.estimatedSize();
+    }
+
+    private <T> T bind(String key, byte[] json, Class<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (IOException e) {
+            log.debug("LLM cache entry {} does not bind to {}", key, type.getSimpleName(), e);
+            return null;
+        }
+    }
+
+    // Entries on disk, as tracked by the index.
+    int diskSize() {
+        synchronized (diskIndex) {
+            return diskIndex.size();
+        }
+    }
+
+    private void initDiskTier() {
+        try {
+            Files.createDirectories(diskDir);
+            List<Path> entries;
+            try (Stream<Path> files = Files.list(diskDir)) {
+                entries = files.filter(p -> p.getFileName().toString().endsWith(".json"))
+                        .sorted(Comparator.comparingLong(this::lastModified))
+                        .collect(Collectors.toList());
+            }
+            synchronized (diskIndex) {
+                for (Path entry : entries) {
+                    String name = entry.getFileName().toString();
+                    diskIndex.put(name.substring(0, name.length() - ".json".length()), lastModified(entry));
+                }
+                trimDiskTier();
+            }
+        } catch (IOException e) {
+            log.warn("Could not prepare LLM cache directory {}", diskDir, e);
+        }
+    }
+
+    // Drops expired entries and then the oldest ones beyond the limit. Callers hold the diskIndex lock.
+    private void trimDiskTier() {
+        long expiredBefore = System.currentTimeMillis() - ttl.toMillis();
+        List<String> victims = new ArrayList<>();
+        Iterator<Map.Entry<String, Long>> oldestFirst = diskIndex.entrySet().iterator();
+        while (oldestFirst.hasNext()) {
+            Map.Entry<String, Long> entry = oldestFirst.next();
+            if (diskIndex.size() <= diskMaxEntries && entry.getValue() >= expiredBefore) {
+                break;
+            }
+            victims.add(entry.getKey());
+            oldestFirst.remove();
+        }
+        for (String victim : victims) {
+            delete(diskDir.resolve(victim + ".json"));
+        }
+    }
+
+    private void delete(Path file) {
+        try {
+            if (Files.deleteIfExists(file)) {
+                diskEvictions.increment();
+            }
+        } catch (IOException e) {
+            log.warn("Could not delete LLM cache entry {}", file, e);
+        }
+    }
+
+    private boolean isExpired(Path file) {
+        return System.currentTimeMillis() - lastModified(file) > ttl.toMillis();
+    }
+
+    private long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    private static String normalize(String prompt) {
+        String trimmed = prompt.strip();
+        StringBuilder normalized = new StringBuilder(trimmed.length());
+        boolean previousSpace = false;
+        for (int i = 0; i < trimmed.length(); i++) {
+            char c = trimmed.charAt(i);
+            if (Character.isWhitespace(c)) {
+                if (!previousSpace) {
+                    normalized.append(' ');
+                }
+                previousSpace = true;
+            } else {
+                normalized.append(c);
+                previousSpace = false;
+            }
+        }
+        return normalized.toString();
+    }
+}
@@ -0,0 +1,28 @@
+package com.resume.backend.llm;
+
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+
+/**
+ * A generation could not run for capacity reasons: the client-side Groq budget is spent (429), or Groq
+ * kept answering 429 through all retries (503). Carries the status and Retry-After to answer with.
+ */
+public class LlmThrottledException extends RuntimeException {
+
+    private final HttpStatus status;
+    private final Duration retryAfter;
+
+    public LlmThrottledException(String message, HttpStatus status, Duration retryAfter, Throwable cause) {
+        super(message, cause);
+        this.status = status;
+        this.retryAfter = retryAfter;
+    }
+
+    public HttpStatus getStatus() { return status; }
+    public Duration getRetryAfter() { return retryAfter; }
+
+    public long getRetryAfterSeconds() {
+        return Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+    }
+}
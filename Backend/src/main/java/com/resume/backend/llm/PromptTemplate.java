@@ -0,0 +1,93 @@
+package com.resume.backend.llm;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A prompt parsed once into alternating literal and {@code {{variable}}} segments. Rendering appends
+ * the segments into a builder sized from the literals and the bound values, so a call does no
+ * scanning, regex matching or intermediate concatenation.
+ */
+public final class PromptTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+    // Same rough ratio Groq quotas are budgeted with; llama tokenizers average a little over four for English.
+    private static final int CHARS_PER_TOKEN = 4;
+
+    private final String id;
+    private final String[] literals;
+    private final String[] variables;
+    private final int literalLength;
+
+    private PromptTemplate(String id, String[] literals, String[] variables) {
+        this.id = id;
+        this.literals = literals;
+        this.variables = variables;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Parses {@code source}; {@code id} is the versioned template id, e.g. {@code resume.v1}.
+     */
+    public static PromptTemplate compile(String id, String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+        int position = 0;
+        while (true) {
+            int open = source.indexOf(OPEN, position);
+            if (open < 0) {
+                break;
+            }
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw new IllegalStateException("Unclosed " + OPEN + " at offset " + open + " in prompt " + id);
+            }
+            String name = source.substring(open + OPEN.length(), close).strip();
+            if (name.isEmpty()) {
+                throw new IllegalStateException("Empty placeholder at offset " + open + " in prompt " + id);
+            }
+            literals.add(source.substring(position, open));
+            variables.add(name);
+            position = close + CLOSE.length();
+        }
+        literals.add(source.substring(position));
+        return new PromptTemplate(id, literals.toArray(new String[0]), variables.toArray(new String[0]));
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public List<String> variables() {
+        return List.of(variables);
+    }
+
+    /**
+     * Substitutes every placeholder; a variable missing from {@code values} is a programming error.
+     */
+    public RenderedPrompt render(Map<String, String> values) {
+        String[] bound = new String[variables.length];
+        int length = literalLength;
+        for (int i = 0; i < variables.length; i++) {
+            String value = values.get(variables[i]);
+            if (value == null) {
+                throw new IllegalStateException("No value for {{" + variables[i] + "}} in prompt " + id);
+            }
+            bound[i] = value;
+            length += value.length();
+        }
+
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < bound.length; i++) {
+            text.append(literals[i]).append(bound[i]);
+        }
+        text.append(literals[literals.length - 1]);
+        return new RenderedPrompt(id, text.toString(), (length + CHARS_PER_TOKEN - 1) / CHARS_PER_TOKEN);
+    }
+}
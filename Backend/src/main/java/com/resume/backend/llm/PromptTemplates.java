@@ -0,0 +1,121 @@
+package com.resume.backend.llm;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Prompt templates loaded from app.llm.prompts.location, one {@code <name>.v<version>.txt} file each, and
+ * compiled once. The file name without the extension is the template id; it is part of every LLM cache
+ * key, so editing a prompt means adding the next version rather than changing one in place.
+ * <p>
+ * With app.llm.prompts.reload=true (for local work, typically with the location pointed at
+ * file:src/main/resources/prompts/) the files are checked for changes at most once per
+ * app.llm.prompts.reload-interval and recompiled when one was modified.
+ */
+@Component
+public class PromptTemplates {
+
+    private static final Logger log = LoggerFactory.getLogger(PromptTemplates.class);
+
+    private static final String EXTENSION = ".txt";
+
+    private final ResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+    private final String pattern;
+    private final boolean reload;
+    private final long reloadIntervalNanos;
+
+    private volatile Snapshot snapshot;
+    private volatile long nextCheck;
+
+    public PromptTemplates(
+            @Value("${app.llm.prompts.location:classpath:prompts/}") String location,
+            @Value("${app.llm.prompts.reload:false}") boolean reload,
+            @Value("${app.llm.prompts.reload-interval:1s}") Duration reloadInterval
+    ) {
+        this.pattern = (location.endsWith("/") ? location : location + "/") + "*" + EXTENSION;
+        this.reload = reload;
+        this.reloadIntervalNanos = reloadInterval.toNanos();
+        this.snapshot = load();
+        this.nextCheck = System.nanoTime() + reloadIntervalNanos;
+        log.info("Loaded prompt templates {} from {}{}", snapshot.templates.keySet(), pattern,
+                reload ? " (hot reload on)" : "");
+    }
+
+    public PromptTemplate get(String id) {
+        if (reload && System.nanoTime() - nextCheck >= 0) {
+            reloadIfChanged();
+        }
+        PromptTemplate template = snapshot.templates.get(id);
+        if (template == null) {
+            throw new IllegalStateException("No prompt template " + id + " under " + pattern);
+        }
+        return template;
+    }
+
+    public RenderedPrompt render(String id, Map<String, String> values) {
+        return get(id).render(values);
+    }
+
+    private synchronized void reloadIfChanged() {
+        if (System.nanoTime() - nextCheck < 0) {
+            return;
+        }
+        nextCheck = System.nanoTime() + reloadIntervalNanos;
+        try {
+            if (!lastModified(resolver.getResources(pattern)).equals(snapshot.lastModified)) {
+                snapshot = load();
+                log.info("Reloaded prompt templates {}", snapshot.templates.keySet());
+            }
+        } catch (IOException | RuntimeException e) {
+            // Keep serving the last good set while a template is being edited.
+            log.warn("Could not reload prompt templates from {}", pattern, e);
+        }
+    }
+
+    private Snapshot load() {
+        try {
+            Resource[] resources = resolver.getResources(pattern);
+            Map<String, PromptTemplate> templates = new HashMap<>();
+            for (Resource resource : resources) {
+                String filename = resource.getFilename();
+                String id = filename.substring(0, filename.length() - EXTENSION.length());
+                try (InputStream in = resource.getInputStream()) {
+                    String source = StreamUtils.copyToString(in, StandardCharsets.UTF_8).stripTrailing();
+                    templates.put(id, PromptTemplate.compile(id, source));
+                }
+            }
+            return new Snapshot(Map.copyOf(templates), lastModified(resources));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read prompt templates from " + pattern, e);
+        }
+    }
+
+    private static Map<String, Long> lastModified(Resource[] resources) {
+        Map<String, Long> lastModified = new HashMap<>();
+        for (Resource resource : resources) {
+            try {
+                lastModified.put(resource.getDescription(), resource.lastModified());
+            } catch (IOException e) {
+                lastModified.put(resource.getDescription(), -1L);
+            }
+        }
+        return lastModified;
+    }
+
+    private record Snapshot(Map<String, PromptTemplate> templates, Map<String, Long> lastModified) {
+    }
+}
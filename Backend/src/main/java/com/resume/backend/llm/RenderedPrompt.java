@@ -0,0 +1,7 @@
+package com.resume.backend.llm;
+
+/**
+ * Prompt text together with the versioned id of the template it came from and its estimated size in tokens.
+ */
+public record RenderedPrompt(String templateId, String text, int estimatedTokens) {
+}
@@ -0,0 +1,271 @@
+package com.resume.backend.mail;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delivers queued mail in the background. Each run claims a batch of due messages (pushing their
+ * next attempt out by a lease, so a crashed or parallel dispatcher cannot double-send), sends the
+ * whole batch over one SMTP connection, and records the outcome per message. Failures are retried with
+ * exponential backoff and jitter until app.mail.dispatch.max-attempts, or until the message's own expiry
+ * (a reset code is useless once the code has expired); recipients that already got
+ * app.mail.per-recipient.max messages within app.mail.per-recipient.window are deferred, not sent.
+ * Finished rows lose their body right away and are deleted after app.mail.retention.
+ * <p>
+ * Each scheduled run is traced by Sleuth's @Scheduled instrumentation.
+ */
+@Component
+@Lazy(false)
+public class OutboundMailDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboundMailDispatcher.class);
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final OutboundMailRepository repository;
+    private final JavaMailSender mailSender;
+    private final TransactionTemplate transaction;
+    private final MeterRegistry meterRegistry;
+    private final String fromEmail;
+    private final int batchSize;
+    private final Duration lease;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final int perRecipientMax;
+    private final Duration perRecipientWindow;
+    private final Duration retention;
+    private final Counter retried;
+    private final Counter dead;
+    private final Counter expired;
+    private final Counter deferred;
+
+    public OutboundMailDispatcher(
+            OutboundMailRepository repository,
+            ObjectProvider<JavaMailSender> mailSenderProvider,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.auth.mail-from:noreply@airesumebuilder.com}") String fromEmail,
+            @Value("${app.mail.dispatch.batch-size:50}") int batchSize,
+            @Value("${app.mail.dispatch.lease:2m}") Duration lease,
+            @Value("${app.mail.dispatch.max-attempts:8}") int maxAttempts,
+            @Value("${app.mail.dispatch.initial-backoff:10s}") Duration initialBackoff,
+            @Value("${app.mail.dispatch.max-backoff:30m}") Duration maxBackoff,
+            @Value("${app.mail.per-recipient.max:5}") int perRecipientMax,
+            @Value("${app.mail.per-recipient.window:1h}") Duration perRecipientWindow,
+            @Value("${app.mail.retention:24h}") Duration retention
+    ) {
+        this.repository = repository;
+        this.mailSender = mailSenderProvider.getIfAvailable();
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.fromEmail = fromEmail;
+        this.batchSize = batchSize;
+        this.lease = lease;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.perRecipientMax = perRecipientMax;
+        this.perRecipientWindow = perRecipientWindow;
+        // The per-recipient limit counts SENT rows, so they must outlive its window.
+        this.retention = retention.compareTo(perRecipientWindow) < 0 ? perRecipientWindow : retention;
+        this.retried = Counter.builder("mail.retried")
+                .description("Messages rescheduled after a failed delivery attempt")
+                .register(meterRegistry);
+        this.dead = Counter.builder("mail.failed")
+                .description("Messages given up on after the last attempt")
+                .register(meterRegistry);
+        this.expired = Counter.builder("mail.expired")
+                .description("Messages dropped because they expired before delivery")
+                .register(meterRegistry);
+        this.deferred = Counter.builder("mail.deferred")
+                .description("Messages postponed by the per-recipient rate limit")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.mail.dispatch.interval-ms:1000}",
+            initialDelayString = "${app.mail.dispatch.initial-delay-ms:5000}")
+    public void run() {
+        if (mailSender == null) {
+            return;
+        }
+        try {
+            while (dispatch() == batchSize) {
+                // A full batch means more is probably due; keep draining before sleeping.
+            }
+        } catch (RuntimeException e) {
+            log.warn("Mail dispatch run failed", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.mail.purge-interval-ms:3600000}",
+            initialDelayString = "${app.mail.purge-interval-ms:3600000}")
+    public void purgeFinished() {
+        int purged = transaction.execute(status ->
+                repository.deleteFinishedBefore(LocalDateTime.now().minus(retention)));
+        if (purged > 0) {
+            log.debug("Purged {} finished outbound mails", purged);
+        }
+    }
+
+    /**
+     * Sends one batch of due messages; returns how many were claimed.
+     */
+    public int dispatch() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        List<OutboundMail> claimed = claim(now);
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+
+        Map<SimpleMailMessage, OutboundMail> batch = new IdentityHashMap<>();
+        Map<String, Long> sentInWindow = new HashMap<>();
+        LocalDateTime windowStart = now.minus(perRecipientWindow);
+        for (OutboundMail mail : claimed) {
+            if (mail.isExpired(now)) {
+                transaction.executeWithoutResult(status ->
+                        repository.markFailed(mail.getId(), mail.getAttempts(), now, "Expired before delivery"));
+                expired.increment();
+                continue;
+            }
+            long recent = sentInWindow.computeIfAbsent(mail.getRecipient(),
+                    recipient -> repository.countSentSince(recipient, windowStart));
+            if (recent >= perRecipientMax) {
+                transaction.executeWithoutResult(status ->
+                        repository.defer(mail.getId(), now.plus(perRecipientWindow.dividedBy(perRecipientMax))));
+                deferred.increment();
+                continue;
+            }
+            sentInWindow.put(mail.getRecipient(), recent + 1);
+            batch.put(message(mail), mail);
+        }
+        if (batch.isEmpty()) {
+            return claimed.size();
+        }
+
+        Map<Object, Exception> failures = send(batch);
+        List<Long> sentIds = new ArrayList<>();
+        batch.forEach((message, mail) -> {
+            if (!failures.containsKey(message)) {
+                sentIds.add(mail.getId());
+            }
+        });
+        transaction.executeWithoutResult(status -> {
+            if (!sentIds.isEmpty()) {
+                repository.markSent(sentIds, LocalDateTime.now());
+            }
+            failures.forEach((message, error) -> recordFailure(batch.get(message), error, now));
+        });
+        return claimed.size();
+    }
+
+    private List<OutboundMail> claim(LocalDateTime now) {
+        return transaction.execute(status -> {
+            List<OutboundMail> due = repository.findDue(now, PageRequest.of(0, batchSize));
+            if (due.isEmpty()) {
+                return List.of();
+            }
+            List<Long> ids = new ArrayList<>(due.size());
+            for (OutboundMail mail : due) {
+                ids.add(mail.getId());
+            }
+            // The random microseconds keep two dispatchers claiming in the same instant apart.
+            LocalDateTime claimLease = now.plus(lease).plus(ThreadLocalRandom.current().nextInt(1, 1_000_000),
+                    ChronoUnit.MICROS);
+            if (repository.claim(ids, now, claimLease) == 0) {
+                return List.of();
+            }
+            return repository.findClaimed(ids, claimLease);
+        });
+    }
+
+    private Map<Object, Exception> send(Map<SimpleMailMessage, OutboundMail> batch) {
+        long started = System.nanoTime();
+        String outcome = "success";
+        Map<Object, Exception> failures = new IdentityHashMap<>();
+        try {
+            // One call, one SMTP connection for the whole batch.
+            mailSender.send(batch.keySet().toArray(new SimpleMailMessage[0]));
+        } catch (MailSendException e) {
+            outcome = "partial";
+            failures.putAll(e.getFailedMessages());
+            if (failures.isEmpty()) {
+                batch.keySet().forEach(message -> failures.put(message, e));
+            }
+        } catch (MailException e) {
+            outcome = "error";
+            batch.keySet().forEach(message -> failures.put(message, e));
+        } finally {
+            Timer.builder("mail.send")
+                    .description("SMTP delivery of one dispatcher batch")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            meterRegistry.summary("mail.batch.size").record(batch.size());
+        }
+        if (!failures.isEmpty()) {
+            log.warn("{} of {} queued mails failed to send", failures.size(), batch.size());
+        }
+        return failures;
+    }
+
+    private void recordFailure(OutboundMail mail, Exception error, LocalDateTime now) {
+        int attempts = mail.getAttempts() + 1;
+        String message = String.valueOf(error.getMessage());
+        if (message.length() > MAX_ERROR_LENGTH) {
+            message = message.substring(0, MAX_ERROR_LENGTH);
+        }
+        LocalDateTime nextAttemptAt = now.plus(backoff(attempts));
+        if (attempts >= maxAttempts || mail.isExpired(nextAttemptAt)) {
+            repository.markFailed(mail.getId(), attempts, now, message);
+            dead.increment();
+            log.error("Giving up on mail {} to {} after {} attempts: {}", mail.getId(), mail.getRecipient(),
+                    attempts, message);
+            return;
+        }
+        repository.markRetry(mail.getId(), attempts, nextAttemptAt, message);
+        retried.increment();
+    }
+
+    // Exponential with full jitter, capped: a flapping SMTP server is not hammered in lockstep.
+    private Duration backoff(int attempts) {
+        long base = initialBackoff.toMillis() << Math.min(attempts - 1, 20);
+        long capped = Math.min(base, maxBackoff.toMillis());
+        return Duration.ofMillis(capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1));
+    }
+
+    private SimpleMailMessage message(OutboundMail mail) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom(fromEmail);
+        message.setTo(mail.getRecipient());
+        message.setSubject(mail.getSubject());
+        message.setText(mail.getBody());
+        return message;
+    }
+}
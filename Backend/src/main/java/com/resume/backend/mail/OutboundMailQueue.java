@@ -0,0 +1,49 @@
+package com.resume.backend.mail;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Write side of the outbound mail queue: a message becomes a PENDING row in the caller's transaction,
+ * so it is sent if and only if the change that triggered it commits. Delivery is left to
+ * {@link OutboundMailDispatcher}.
+ */
+@Service
+public class OutboundMailQueue {
+
+    private final OutboundMailRepository repository;
+
+    public OutboundMailQueue(OutboundMailRepository repository) {
+        this.repository = repository;
+    }
+
+    @Transactional
+    public OutboundMail enqueue(String type, String recipient, String subject, String body) {
+        return enqueue(type, recipient, subject, body, null);
+    }
+
+    /**
+     * Queues a message that is dropped instead of sent or retried once {@code expiresAt} has passed.
+     */
+    @Transactional
+    public OutboundMail enqueue(String type, String recipient, String subject, String body, LocalDateTime expiresAt) {
+        OutboundMail mail = new OutboundMail();
+        mail.setType(type);
+        mail.setRecipient(recipient);
+        mail.setSubject(subject);
+        mail.setBody(body);
+        mail.setExpiresAt(expiresAt);
+        return repository.save(mail);
+    }
+
+    /**
+     * Like {@link #enqueue}, but first drops unsent mail of the same type to the same recipient.
+     */
+    @Transactional
+    public OutboundMail replace(String type, String recipient, String subject, String body, LocalDateTime expiresAt) {
+        repository.deletePending(recipient, type);
+        return enqueue(type, recipient, subject, body, expiresAt);
+    }
+}
@@ -0,0 +1,66 @@
+package com.resume.backend.mail;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboundMailRepository extends JpaRepository<OutboundMail, Long> {
+
+    @Query("select m from OutboundMail m where m.status = 'PENDING' and m.nextAttemptAt <= :now "
+            + "order by m.nextAttemptAt, m.id")
+    List<OutboundMail> findDue(@Param("now") LocalDateTime now, Pageable page);
+
+    /**
+     * Pushes the due messages' next attempt out to the lease; only rows still unclaimed are taken, so
+     * two dispatchers never send the same message.
+     */
+    @Modifying
+    @Query("update OutboundMail m set m.nextAttemptAt = :lease "
+            + "where m.id in :ids and m.status = 'PENDING' and m.nextAttemptAt <= :now")
+    int claim(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now, @Param("lease") LocalDateTime lease);
+
+    @Query("select m from OutboundMail m where m.id in :ids and m.nextAttemptAt = :lease")
+    List<OutboundMail> findClaimed(@Param("ids") Collection<Long> ids, @Param("lease") LocalDateTime lease);
+
+    // Outcomes are written with bulk updates so a row deleted meanwhile (superseded) is not re-inserted by a merge.
+    // Finished rows keep no body: it may hold a reset code, and nothing reads it after delivery.
+    @Modifying
+    @Query("update OutboundMail m set m.status = 'SENT', m.sentAt = :now, m.attempts = m.attempts + 1, "
+            + "m.lastError = null, m.body = '' where m.id in :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update OutboundMail m set m.status = 'PENDING', m.attempts = :attempts, m.nextAttemptAt = :nextAttemptAt, "
+            + "m.lastError = :error where m.id = :id")
+    int markRetry(@Param("id") Long id, @Param("attempts") int attempts,
+                  @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("error") String error);
+
+    @Modifying
+    @Query("update OutboundMail m set m.status = 'FAILED', m.attempts = :attempts, m.nextAttemptAt = :now, "
+            + "m.lastError = :error, m.body = '' where m.id = :id")
+    int markFailed(@Param("id") Long id, @Param("attempts") int attempts, @Param("now") LocalDateTime now,
+                   @Param("error") String error);
+
+    @Modifying
+    @Query("update OutboundMail m set m.nextAttemptAt = :nextAttemptAt where m.id = :id")
+    int defer(@Param("id") Long id, @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    @Query("select count(m) from OutboundMail m where m.recipient = :recipient and m.status = 'SENT' "
+            + "and m.sentAt > :since")
+    long countSentSince(@Param("recipient") String recipient, @Param("since") LocalDateTime since);
+
+    @Modifying
+    @Query("delete from OutboundMail m where m.status in ('SENT', 'FAILED') and m.createdAt < :before")
+    int deleteFinishedBefore(@Param("before") LocalDateTime before);
+
+    // A newer reset code invalidates the older ones, so their unsent mails are dropped.
+    @Modifying
+    @Query("delete from OutboundMail m where m.recipient = :recipient and m.type = :type and m.status = 'PENDING'")
+    int deletePending(@Param("recipient") String recipient, @Param("type") String type);
+}
@@ -1,10 +1,19 @@
 package com.resume.backend.repository;
 
 import com.resume.backend.entity.Resume;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface ResumeRepository extends JpaRepository<Resume, Long> {
@@ -12,4 +21,48 @@ public interface ResumeRepository extends JpaRepository<Resume, Long> {
     List<Resume> findByUserEmail(String userEmail);
     
     List<Resume> findByUserEmailOrderByCreatedAtDesc(String userEmail);
+
+    // Keyset pages over idx_resumes_user_created (user_email, created_at, id); only the page size goes in Pageable.
+    List<ResumeSummary> findByUserEmailOrderByCreatedAtDescIdDesc(String userEmail, Pageable pageable);
+
+    @Query("select r.id as id, r.fullName as fullName, r.jobTitle as jobTitle, "
+            + "r.createdAt as createdAt, r.updatedAt as updatedAt from Resume r "
+            + "where r.userEmail = :userEmail "
+            + "and (r.createdAt < :createdAt or (r.createdAt = :createdAt and r.id < :id)) "
+            + "order by r.createdAt desc, r.id desc")
+    List<ResumeSummary> findSummariesAfter(
+            @Param("userEmail") String userEmail,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    // Server-side cursor for exports; MySQL needs useCursorFetch=true for the fetch size to take effect.
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "50"))
+    @Query("select r from Resume r where r.userEmail = :userEmail order by r.createdAt desc, r.id desc")
+    Stream<Resume> streamByUserEmail(@Param("userEmail") String userEmail);
+
+    @Query("select distinct r.userEmail from Resume r where r.id in :ids")
+    List<String> findOwnerEmails(@Param("ids") Collection<Long> ids);
+
+    // Bulk deletes bypass cascading, so section rows are removed explicitly before the resumes.
+    @Modifying
+    @Query(value = "delete from resume_skills where resume_id in (:ids)", nativeQuery = true)
+    int deleteSkillsByResumeIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "delete from resume_experience where resume_id in (:ids)", nativeQuery = true)
+    int deleteExperienceByResumeIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "delete from resume_education where resume_id in (:ids)", nativeQuery = true)
+    int deleteEducationByResumeIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "delete from resume_projects where resume_id in (:ids)", nativeQuery = true)
+    int deleteProjectsByResumeIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("delete from Resume r where r.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 }
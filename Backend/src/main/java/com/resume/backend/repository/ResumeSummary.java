@@ -0,0 +1,19 @@
+package com.resume.backend.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Closed projection used for resume listings; selects only these columns instead of the full entity.
+ */
+public interface ResumeSummary {
+
+    Long getId();
+
+    String getFullName();
+
+    String getJobTitle();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,82 @@
+package com.resume.backend.service;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An asynchronous LLM generation submitted through the job API.
+ */
+public class GenerationJob {
+
+    public enum Status { PENDING, RUNNING, SUCCEEDED, FAILED }
+
+    private final String id = UUID.randomUUID().toString();
+    private final String type;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private final CompletableFuture<Map<String, Object>> result = new CompletableFuture<>();
+    private volatile Status status = Status.PENDING;
+    private volatile LocalDateTime completedAt;
+    private volatile String error;
+
+    public GenerationJob(String type) {
+        this.type = type;
+    }
+
+    public String getId() { return id; }
+    public String getType() { return type; }
+    public Status getStatus() { return currentStatus(); }
+    public CompletableFuture<Map<String, Object>> getResult() { return result; }
+
+    public boolean isDone() {
+        return result.isDone();
+    }
+
+    void markRunning() {
+        status = Status.RUNNING;
+    }
+
+    // The future is completed before the status field is set, so a reader that sees a terminal status
+    // always finds the result; callbacks on the future run before the status write and read it from there.
+    void succeed(Map<String, Object> value) {
+        completedAt = LocalDateTime.now();
+        result.complete(value);
+        status = Status.SUCCEEDED;
+    }
+
+    void fail(String message) {
+        completedAt = LocalDateTime.now();
+        error = message;
+        result.complete(null);
+        status = Status.FAILED;
+    }
+
+    public Map<String, Object> toResponse() {
+        Status current = currentStatus();
+        Map<String, Object> response = new HashMap<>();
+        response.put("jobId", id);
+        response.put("type", type);
+        response.put("status", current.name());
+        response.put("createdAt", createdAt);
+        if (current == Status.SUCCEEDED || current == Status.FAILED) {
+            response.put("completedAt", completedAt);
+        }
+        if (current == Status.SUCCEEDED) {
+            response.put("result", result.getNow(null));
+        }
+        if (current == Status.FAILED) {
+            response.put("error", error);
+        }
+        return response;
+    }
+
+    // The completed future is the source of truth for the outcome; error is written before it completes.
+    private Status currentStatus() {
+        if (result.isDone()) {
+            return error == null ? Status.SUCCEEDED : Status.FAILED;
+        }
+        return status;
+    }
+}
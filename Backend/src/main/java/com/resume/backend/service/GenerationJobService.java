@@ -0,0 +1,83 @@
+package com.resume.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * Runs resume and interview generations on a bounded worker pool and keeps their outcome
+ * for a retention window so clients can poll for it.
+ * When the pool queue is full, submit methods throw {@link org.springframework.core.task.TaskRejectedException}.
+ */
+@Service
+public class GenerationJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(GenerationJobService.class);
+
+    private final ResumeService resumeService;
+    private final ThreadPoolTaskExecutor llmJobExecutor;
+    private final Cache<String, GenerationJob> jobs;
+
+    public GenerationJobService(
+            ResumeService resumeService,
+            @Qualifier("llmJobExecutor") ThreadPoolTaskExecutor llmJobExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${app.llm.jobs.retention:30m}") Duration retention,
+            @Value("${app.llm.jobs.max-retained:10000}") long maxRetained
+    ) {
+        this.resumeService = resumeService;
+        this.llmJobExecutor = llmJobExecutor;
+        this.jobs = Caffeine.newBuilder()
+                .expireAfterWrite(retention)
+                .maximumSize(maxRetained)
+                .build();
+
+        Gauge.builder("llm.jobs.queue.depth", llmJobExecutor, executor -> executor.getThreadPoolExecutor().getQueue().size())
+                .description("Generation jobs waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder("llm.jobs.active", llmJobExecutor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("Generation jobs currently calling Groq")
+                .register(meterRegistry);
+    }
+
+    public GenerationJob submitResume(String userDescription) {
+        return submit("resume", () -> resumeService.generateResumeResponse(userDescription));
+    }
+
+    public GenerationJob submitInterviewQuestions(List<String> skills) {
+        return submit("interview-questions", () -> resumeService.generateInterviewQuestionsBySkills(skills));
+    }
+
+    public GenerationJob getJob(String jobId) {
+        return jobs.getIfPresent(jobId);
+    }
+
+    private GenerationJob submit(String type, Callable<Map<String, Object>> work) {
+        GenerationJob job = new GenerationJob(type);
+        llmJobExecutor.execute(() -> run(job, work));
+        jobs.put(job.getId(), job);
+        return job;
+    }
+
+    private void run(GenerationJob job, Callable<Map<String, Object>> work) {
+        job.markRunning();
+        try {
+            job.succeed(work.call());
+        } catch (Exception e) {
+            log.error("Generation job {} ({}) failed", job.getId(), job.getType(), e);
+            job.fail("Generation failed: " + e.getMessage());
+        }
+    }
+}
@@ -1,21 +1,52 @@
 package com.resume.backend.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resume.backend.llm.GroqRateLimiter;
+import com.resume.backend.dto.GeneratedResume;
+import com.resume.backend.dto.InterviewQuestionSet;
+import com.resume.backend.llm.JsonSectionScanner;
+import com.resume.backend.llm.LlmJsonExtractor;
+import com.resume.backend.llm.LlmResponseCache;
+import com.resume.backend.llm.LlmThrottledException;
+import com.resume.backend.llm.PromptTemplates;
+import com.resume.backend.llm.RenderedPrompt;
+import com.resume.backend.llm.SingleFlight;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
 
 @Service
 public class GroqService {
@@ -25,52 +56,89 @@ public class GroqService {
     @Value("${GROQ_API_KEY}")
     private String apiKey;
 
-    private static final String GROQ_API_URL =
-            "https://api.groq.com/openai/v1/chat/completions";
+    private static final String RESUME_PROMPT = "resume.v1";
+    private static final String INTERVIEW_PROMPT = "interview.v1";
+    private static final double RESUME_TEMPERATURE = 0.7;
+    private static final int RESUME_MAX_TOKENS = 2048;
+    private static final double INTERVIEW_TEMPERATURE = 0.6;
+    private static final int INTERVIEW_MAX_TOKENS = 2200;
+    private static final int MIN_COMPLETION_TOKENS = 512;
+    private static final int MAX_RATE_LIMIT_RETRIES = 3;
+    private static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(1);
 
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
-
-    public GroqService(RestTemplate restTemplate, ObjectMapper objectMapper) {
+    private final LlmResponseCache responseCache;
+    private final GroqRateLimiter rateLimiter;
+    private final LlmJsonExtractor jsonExtractor;
+    private final PromptTemplates promptTemplates;
+    private final MeterRegistry meterRegistry;
+    private final String apiUrl;
+    private final String model;
+    private final int contextWindow;
+    private final SingleFlight<String, Object> inFlight = new SingleFlight<>();
+
+    public GroqService(
+            RestTemplate restTemplate,
+            ObjectMapper objectMapper,
+            LlmResponseCache responseCache,
+            GroqRateLimiter rateLimiter,
+            LlmJsonExtractor jsonExtractor,
+            PromptTemplates promptTemplates,
+            MeterRegistry meterRegistry,
+            @Value("${app.groq.api-url:https://api.groq.com/openai/v1/chat/completions}") String apiUrl,
+            @Value("${app.groq.model:llama-3.3-70b-versatile}") String model,
+            @Value("${app.groq.context-window:131072}") int contextWindow
+    ) {
         this.restTemplate = restTemplate;
         this.objectMapper = objectMapper;
+        this.responseCache = responseCache;
+        this.rateLimiter = rateLimiter;
+        this.jsonExtractor = jsonExtractor;
+        this.promptTemplates = promptTemplates;
+        this.meterRegistry = meterRegistry;
+        this.apiUrl = apiUrl;
+        this.model = model;
+        this.contextWindow = contextWindow;
     }
 
     public Map<String, Object> generateResume(String userDescription) {
         ensureApiKey();
 
-        String prompt =
-                "You are a professional resume writer. Create a detailed resume from the following user description.\n" +
-                "Return ONLY valid JSON. No markdown. No explanation.\n\n" +
-                "{\n" +
-                "  \"meta\": \"Resume generated\",\n" +
-                "  \"data\": {\n" +
-                "    \"personalInformation\": {\n" +
-                "      \"fullName\": \"Name\",\n" +
-                "      \"email\": \"email@example.com\",\n" +
-                "      \"phoneNumber\": \"Phone\",\n" +
-                "      \"location\": \"City, Country\",\n" +
-                "      \"linkedIn\": null,\n" +
-                "      \"gitHub\": null,\n" +
-                "      \"portfolio\": null\n" +
-                "    },\n" +
-                "    \"summary\": \"Professional summary\",\n" +
-                "    \"skills\": [{\"title\": \"Skill\", \"level\": \"Beginner/Intermediate/Expert\"}],\n" +
-                "    \"experience\": [],\n" +
-                "    \"education\": [],\n" +
-                "    \"projects\": [],\n" +
-                "    \"certifications\": [],\n" +
-                "    \"languages\": [],\n" +
-                "    \"interests\": [],\n" +
-                "    \"achievements\": []\n" +
-                "  }\n" +
-                "}\n\n" +
-                "User Description: " + userDescription;
-
-        Map<String, Object> aiJson = chatCompletion(prompt, 0.7, 2048);
+        GeneratedResume resume = chatCompletion(
+                buildResumePrompt(userDescription), RESUME_TEMPERATURE, RESUME_MAX_TOKENS, GeneratedResume.class);
+        return resumeResponse(resume);
+    }
+
+    /**
+     * Same prompt and cache entry as {@link #generateResume(String)}, but the completion is requested with
+     * {@code stream: true}. Tokens are relayed as they arrive and every top-level section of {@code data}
+     * is reported as soon as its JSON is complete.
+     */
+    public Map<String, Object> streamResume(String userDescription, ResumeStreamListener listener) {
+        ensureApiKey();
+
+        RenderedPrompt prompt = buildResumePrompt(userDescription);
+        int maxTokens = completionBudget(prompt, RESUME_MAX_TOKENS);
+        String cacheKey = responseCache.key(model, prompt.templateId(), prompt.text(), RESUME_TEMPERATURE, maxTokens);
+        GeneratedResume resume = responseCache.get(cacheKey, GeneratedResume.class);
+        if (resume != null) {
+            replaySections(resume, listener);
+        } else {
+            resume = streamCompletion(prompt, RESUME_TEMPERATURE, maxTokens, listener);
+            responseCache.put(cacheKey, resume);
+        }
+        return resumeResponse(resume);
+    }
+
+    RenderedPrompt buildResumePrompt(String userDescription) {
+        return promptTemplates.render(RESUME_PROMPT, Map.of("userDescription", userDescription));
+    }
+
+    private Map<String, Object> resumeResponse(GeneratedResume resume) {
         Map<String, Object> response = new HashMap<>();
-        response.put("meta", aiJson.get("meta"));
-        response.put("data", aiJson.get("data"));
+        response.put("meta", resume.meta());
+        response.put("data", resume.data());
         return response;
     }
 
@@ -78,109 +146,317 @@ public class GroqService {
         ensureApiKey();
 
         List<String> safeSkills = (skills == null) ? Collections.emptyList() : skills;
-        String skillsText = safeSkills.isEmpty() ? "general software engineering" : String.join(", ", safeSkills);
-
-        String prompt = """
-                You are an expert technical interview coach.
-                Generate interview questions and strong sample answers tailored to these skills: %s.
-
-                Return ONLY valid JSON in this exact shape:
-                {
-                  "meta": "Interview prep generated",
-                  "questions": [
-                    {
-                      "question": "...",
-                      "answer": "...",
-                      "category": "technical|behavioral|problem-solving"
-                    }
-                  ]
-                }
+        List<String> canonicalSkills = canonicalizeSkills(safeSkills);
+        String skillsText = canonicalSkills.isEmpty() ? "general software engineering" : String.join(", ", canonicalSkills);
 
-                Requirements:
-                - Return 10 questions.
-                - Balance technical and behavioral questions.
-                - Keep answers practical, concise, and interview-ready.
-                - No markdown. No extra text.
-                """.formatted(skillsText);
+        RenderedPrompt prompt = promptTemplates.render(INTERVIEW_PROMPT, Map.of("skills", skillsText));
 
-        Map<String, Object> aiJson = chatCompletion(prompt, 0.6, 2200);
+        InterviewQuestionSet questionSet = chatCompletion(prompt, INTERVIEW_TEMPERATURE, INTERVIEW_MAX_TOKENS, InterviewQuestionSet.class);
 
-        Object questionsObj = aiJson.get("questions");
         List<Map<String, String>> normalizedQuestions = new ArrayList<>();
-        if (questionsObj instanceof List<?>) {
-            for (Object item : (List<?>) questionsObj) {
-                if (item instanceof Map<?, ?> mapItem) {
-                    String question = stringify(mapItem.get("question"));
-                    String answer = stringify(mapItem.get("answer"));
-                    String category = stringify(mapItem.get("category"));
-
-                    if (!question.isBlank() && !answer.isBlank()) {
-                        Map<String, String> row = new HashMap<>();
-                        row.put("question", question);
-                        row.put("answer", answer);
-                        row.put("category", category.isBlank() ? "technical" : category);
-                        normalizedQuestions.add(row);
-                    }
-                }
+        for (InterviewQuestionSet.InterviewQuestion item : questionSet.questions()) {
+            if (item == null) {
+                continue;
+            }
+            String question = stringify(item.question());
+            String answer = stringify(item.answer());
+            String category = stringify(item.category());
+
+            if (!question.isBlank() && !answer.isBlank()) {
+                Map<String, String> row = new HashMap<>();
+                row.put("question", question);
+                row.put("answer", answer);
+                row.put("category", category.isBlank() ? "technical" : category);
+                normalizedQuestions.add(row);
             }
         }
 
         Map<String, Object> response = new HashMap<>();
-        response.put("meta", aiJson.getOrDefault("meta", "Interview prep generated"));
+        response.put("meta", questionSet.meta() == null ? "Interview prep generated" : questionSet.meta());
         response.put("skills", safeSkills);
         response.put("questions", normalizedQuestions);
         response.put("total", normalizedQuestions.size());
         return response;
     }
 
-    @SuppressWarnings("unchecked")
-    private Map<String, Object> chatCompletion(String prompt, double temperature, int maxTokens) {
+    private <T> T chatCompletion(RenderedPrompt prompt, double temperature, int requestedMaxTokens, Class<T> type) {
+        int maxTokens = completionBudget(prompt, requestedMaxTokens);
+        String cacheKey = responseCache.key(model, prompt.templateId(), prompt.text(), temperature, maxTokens);
+        T cached = responseCache.get(cacheKey, type);
+        if (cached != null) {
+            return cached;
+        }
+
+        Object result = inFlight.execute(cacheKey, () -> {
+            // A previous flight may have filled the cache after our lookup above.
+            T filled = responseCache.get(cacheKey, type);
+            if (filled != null) {
+                return filled;
+            }
+            T parsed = callGroq(prompt, temperature, maxTokens, type);
+            responseCache.put(cacheKey, parsed);
+            return parsed;
+        });
+        return type.cast(result);
+    }
+
+    /**
+     * Caps the completion so prompt and answer fit the model's context window; the prompt size is the
+     * estimate made when it was rendered.
+     */
+    private int completionBudget(RenderedPrompt prompt, int maxTokens) {
+        int available = contextWindow - prompt.estimatedTokens();
+        if (available < MIN_COMPLETION_TOKENS) {
+            throw new IllegalArgumentException("Input is too long: about " + prompt.estimatedTokens()
+                    + " tokens of a " + contextWindow + " token context window");
+        }
+        return Math.min(maxTokens, available);
+    }
+
+    private <T> T callGroq(RenderedPrompt prompt, double temperature, int maxTokens, Class<T> type) {
+        try {
+            String aiText = throttled(prompt, maxTokens,
+                    () -> requestCompletion(prompt.text(), temperature, maxTokens));
+            return parse(aiText, type);
+        } catch (LlmThrottledException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Groq API failed", e);
+            throw new RuntimeException("Groq generation failed: " + e.getMessage(), e);
+        }
+    }
+
+    private String requestCompletion(String prompt, double temperature, int maxTokens) throws IOException {
+        byte[] body = objectMapper.writeValueAsBytes(completionRequest(prompt, temperature, maxTokens));
+
+        String responseBody = exchange("blocking", request -> {
+            applyHeaders(request.getHeaders());
+            request.getBody().write(body);
+        }, response -> StreamUtils.copyToString(response.getBody(), StandardCharsets.UTF_8));
+
+        JsonNode root = objectMapper.readTree(responseBody);
+        recordUsage(root.path("usage"));
+        JsonNode choices = root.path("choices");
+
+        if (!choices.isArray() || choices.isEmpty()) {
+            throw new RuntimeException("Groq API returned no choices");
+        }
+
+        return choices.path(0).path("message").path("content").asText("");
+    }
+
+    private GeneratedResume streamCompletion(
+            RenderedPrompt prompt, double temperature, int maxTokens, ResumeStreamListener listener
+    ) {
         try {
-            Map<String, Object> message = new HashMap<>();
-            message.put("role", "user");
-            message.put("content", prompt);
-
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("model", "llama-3.3-70b-versatile");
-            requestBody.put("messages", Collections.singletonList(message));
-            requestBody.put("temperature", temperature);
-            requestBody.put("max_tokens", maxTokens);
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.set("Authorization", "Bearer " + apiKey);
-            headers.set("User-Agent", "resume-ai-app/1.0");
-
-            HttpEntity<String> entity =
-                    new HttpEntity<>(objectMapper.writeValueAsString(requestBody), headers);
-
-            ResponseEntity<String> apiResponse =
-                    restTemplate.postForEntity(GROQ_API_URL, entity, String.class);
-
-            if (!apiResponse.getStatusCode().is2xxSuccessful()) {
-                String errorBody = apiResponse.getBody();
-                log.error("Groq API error: {} - {}", apiResponse.getStatusCode(), errorBody);
-                throw new RuntimeException("Groq API error: " + apiResponse.getStatusCode() + " - " + errorBody);
+            Map<String, Object> requestBody = completionRequest(prompt.text(), temperature, maxTokens);
+            requestBody.put("stream", true);
+            byte[] body = objectMapper.writeValueAsBytes(requestBody);
+
+            String aiText = throttled(prompt, maxTokens, () -> exchange("stream", request -> {
+                applyHeaders(request.getHeaders());
+                request.getHeaders().setAccept(Collections.singletonList(MediaType.TEXT_EVENT_STREAM));
+                request.getBody().write(body);
+            }, response -> readStream(response.getBody(), listener)));
+
+            return parse(aiText, GeneratedResume.class);
+
+        } catch (LlmThrottledException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Groq streaming failed", e);
+            throw new RuntimeException("Groq generation failed: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * One HTTP exchange with Groq, timed as groq.request (until the body is fully read) and
+     * groq.first.byte (until the response headers of a successful call arrived).
+     */
+    private <T> T exchange(String mode, RequestCallback callback, ResponseExtractor<T> extractor) {
+        long started = System.nanoTime();
+        String outcome = "error";
+        try {
+            T result = restTemplate.execute(apiUrl, HttpMethod.POST, callback, response -> {
+                Timer.builder("groq.first.byte")
+                        .description("Time until Groq's response headers arrived")
+                        .tag("mode", mode)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry)
+                        .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                return extractor.extractData(response);
+            });
+            outcome = "success";
+            return result;
+        } catch (HttpClientErrorException.TooManyRequests e) {
+            outcome = "throttled";
+            throw e;
+        } finally {
+            Timer.builder("groq.request")
+                    .description("Groq round trip until the last byte of the response")
+                    .tag("mode", mode)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private <T> T parse(String aiText, Class<T> type) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return jsonExtractor.extract(aiText, type);
+        } finally {
+            sample.stop(Timer.builder("llm.parse")
+                    .description("Binding model output to its DTO")
+                    .tag("type", type.getSimpleName())
+                    .register(meterRegistry));
+        }
+    }
+
+    private void recordUsage(JsonNode usage) {
+        if (!usage.isObject()) {
+            return;
+        }
+        tokens("prompt").record(usage.path("prompt_tokens").asDouble());
+        tokens("completion").record(usage.path("completion_tokens").asDouble());
+    }
+
+    private DistributionSummary tokens(String type) {
+        return DistributionSummary.builder("groq.tokens")
+                .description("Tokens per Groq call as reported in the usage field")
+                .baseUnit("tokens")
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs one Groq exchange inside the client-side rate limiter, retrying 429 responses after the
+     * delay the server asked for in Retry-After. Running out of retries or client-side budget surfaces as
+     * {@link LlmThrottledException}.
+     */
+    private <T> T throttled(RenderedPrompt prompt, int maxTokens, GroqCall<T> call) throws Exception {
+        // Groq reserves the whole completion budget against the tokens/min quota up front.
+        int estimatedTokens = prompt.estimatedTokens() + maxTokens;
+        for (int attempt = 0; ; attempt++) {
+            GroqRateLimiter.Permit permit = rateLimiter.acquire(estimatedTokens);
+            try {
+                T result = call.execute();
+                permit.succeeded();
+                return result;
+            } catch (HttpClientErrorException.TooManyRequests e) {
+                Duration retryAfter = retryAfter(e.getResponseHeaders());
+                permit.throttled(retryAfter);
+                log.warn("Groq rate limited (attempt {}), retrying after {}", attempt + 1, retryAfter);
+                if (attempt >= MAX_RATE_LIMIT_RETRIES) {
+                    throw new LlmThrottledException("Groq is rate limiting requests; try again shortly",
+                            HttpStatus.SERVICE_UNAVAILABLE, retryAfter, e);
+                }
+            } catch (Exception e) {
+                permit.failed();
+                throw e;
+            }
+        }
+    }
+
+    private Duration retryAfter(HttpHeaders headers) {
+        String value = headers == null ? null : headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null || value.isBlank()) {
+            return DEFAULT_RETRY_AFTER;
+        }
+        try {
+            return Duration.ofMillis((long) (Double.parseDouble(value.trim()) * 1000));
+        } catch (NumberFormatException notSeconds) {
+            try {
+                Duration untilDate = Duration.between(Instant.now(),
+                        ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant());
+                return untilDate.isNegative() ? Duration.ZERO : untilDate;
+            } catch (DateTimeParseException notDate) {
+                return DEFAULT_RETRY_AFTER;
             }
+        }
+    }
 
-            Map<String, Object> apiResult = objectMapper.readValue(apiResponse.getBody(), Map.class);
-            List<Map<String, Object>> choices = (List<Map<String, Object>>) apiResult.get("choices");
+    @FunctionalInterface
+    private interface GroqCall<T> {
+        T execute() throws Exception;
+    }
 
-            if (choices == null || choices.isEmpty()) {
-                throw new RuntimeException("Groq API returned no choices");
+    private String readStream(InputStream body, ResumeStreamListener listener) throws IOException {
+        StringBuilder aiText = new StringBuilder();
+        JsonSectionScanner scanner = new JsonSectionScanner(2, (name, rawValue) -> {
+            try {
+                listener.onSection(name, objectMapper.readValue(rawValue, Object.class));
+            } catch (IOException e) {
+                log.debug("Skipping unparseable section {}", name, e);
             }
+        });
 
-            Map<String, Object> firstChoice = choices.get(0);
-            Map<String, Object> responseMessage = (Map<String, Object>) firstChoice.get("message");
-            String aiText = (String) responseMessage.get("content");
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (!line.startsWith("data:")) {
+                continue;
+            }
+            String payload = line.substring(5).trim();
+            if ("[DONE]".equals(payload)) {
+                break;
+            }
 
-            String cleaned = aiText.replace("```json", "").replace("```", "").trim();
-            return objectMapper.readValue(cleaned, Map.class);
+            JsonNode chunk = objectMapper.readTree(payload);
+            // Groq reports usage on the final chunk under x_groq; OpenAI-style servers use a top-level field.
+            recordUsage(chunk.path("x_groq").has("usage") ? chunk.path("x_groq").path("usage") : chunk.path("usage"));
+            JsonNode content = chunk.path("choices").path(0).path("delta").path("content");
+            if (!content.isTextual() || content.asText().isEmpty()) {
+                continue;
+            }
+            String token = content.asText();
+            aiText.append(token);
+            listener.onToken(token);
+            scanner.feed(token);
+        }
+        return aiText.toString();
+    }
 
-        } catch (Exception e) {
-            log.error("Groq API failed", e);
-            throw new RuntimeException("Groq generation failed: " + e.getMessage());
+    @SuppressWarnings("unchecked")
+    private void replaySections(GeneratedResume resume, ResumeStreamListener listener) {
+        if (resume.data() != null) {
+            Map<String, Object> sections = objectMapper.convertValue(resume.data(), Map.class);
+            sections.forEach(listener::onSection);
+        }
+    }
+
+    Map<String, Object> completionRequest(String prompt, double temperature, int maxTokens) {
+        Map<String, Object> message = new HashMap<>();
+        message.put("role", "user");
+        message.put("content", prompt);
+
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("model", model);
+        requestBody.put("messages", Collections.singletonList(message));
+        requestBody.put("temperature", temperature);
+        requestBody.put("max_tokens", maxTokens);
+        return requestBody;
+    }
+
+    private void applyHeaders(HttpHeaders headers) {
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("Authorization", "Bearer " + apiKey);
+        headers.set("User-Agent", "resume-ai-app/1.0");
+    }
+
+    /**
+     * Sorted, case-folded and de-duplicated so equivalent skill lists build the same prompt
+     * and therefore share a cache entry.
+     */
+    private List<String> canonicalizeSkills(List<String> skills) {
+        TreeSet<String> canonical = new TreeSet<>();
+        for (String skill : skills) {
+            if (skill != null && !skill.isBlank()) {
+                canonical.add(skill.trim().toLowerCase(Locale.ROOT));
+            }
         }
+        return new ArrayList<>(canonical);
     }
 
     private String stringify(Object value) {
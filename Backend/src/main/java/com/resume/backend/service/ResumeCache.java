@@ -0,0 +1,175 @@
+package com.resume.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.resume.backend.entity.Resume;
+import com.resume.backend.entity.ResumeEducation;
+import com.resume.backend.entity.ResumeExperience;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+/**
+ * Read cache for saved resumes: full entities by id and listing pages by owner email.
+ * Both tiers are bounded by an estimate of their retained size. Writes evict the affected entries
+ * immediately and again once the transaction commits. A read that loaded before an eviction may store
+ * its result after it; every eviction also bumps a generation counter (striped by id and by owner), and
+ * a read that sees its stripe's generation move while it was loading drops what it stored.
+ * Owner emails are compared case-insensitively.
+ */
+@Component
+public class ResumeCache {
+
+    private static final int ENTRY_OVERHEAD = 256;
+    private static final int SUMMARY_WEIGHT = 256;
+    private static final char KEY_SEPARATOR = '\n';
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final Cache<Long, Resume> byId;
+    private final Cache<String, Map<String, Object>> pages;
+    private final AtomicLongArray idGenerations = new AtomicLongArray(GENERATION_STRIPES);
+    private final AtomicLongArray ownerGenerations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public ResumeCache(
+            MeterRegistry meterRegistry,
+            @Value("${app.resume.cache.max-size:32MB}") DataSize maxSize,
+            @Value("${app.resume.cache.page-max-size:8MB}") DataSize pageMaxSize,
+            @Value("${app.resume.cache.ttl:10m}") Duration ttl
+    ) {
+        this.byId = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((Long id, Resume resume) -> weigh(resume))
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.pages = Caffeine.newBuilder()
+                .maximumWeight(pageMaxSize.toBytes())
+                .weigher((String key, Map<String, Object> page) -> weigh(page))
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "resumes.by-id");
+        CaffeineCacheMetrics.monitor(meterRegistry, pages, "resumes.pages");
+        Gauge.builder("resume.cache.hit.ratio", byId, cache -> cache.stats().hitRate())
+                .tag("cache", "resumes.by-id")
+                .register(meterRegistry);
+        Gauge.builder("resume.cache.hit.ratio", pages, cache -> cache.stats().hitRate())
+                .tag("cache", "resumes.pages")
+                .register(meterRegistry);
+    }
+
+    public Resume getById(Long id, Function<Long, Resume> loader) {
+        Resume cached = byId.getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+        int stripe = stripe(id);
+        long generation = idGenerations.get(stripe);
+        Resume loaded = loader.apply(id);
+        if (loaded != null) {
+            byId.put(id, loaded);
+            // Put first, then check: an eviction bumps before it invalidates, so one of the two removes it.
+            if (idGenerations.get(stripe) != generation) {
+                byId.invalidate(id);
+            }
+        }
+        return loaded;
+    }
+
+    public Map<String, Object> getPage(String userEmail, String cursor, int limit,
+                                       Function<String, Map<String, Object>> loader) {
+        String owner = normalize(userEmail);
+        String key = owner + KEY_SEPARATOR + limit + KEY_SEPARATOR + Objects.toString(cursor, "");
+        int stripe = stripe(owner);
+        long generation = ownerGenerations.get(stripe);
+        Map<String, Object> page = pages.get(key, loader);
+        if (ownerGenerations.get(stripe) != generation) {
+            pages.invalidate(key);
+        }
+        return page;
+    }
+
+    /**
+     * Drops the resume and every cached listing page of the given owners, now and after commit.
+     */
+    public void evict(Long id, String... userEmails) {
+        evictNow(id, userEmails);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(id, userEmails);
+                }
+            });
+        }
+    }
+
+    private void evictNow(Long id, String... userEmails) {
+        if (id != null) {
+            idGenerations.incrementAndGet(stripe(id));
+            byId.invalidate(id);
+        }
+        for (String userEmail : userEmails) {
+            if (userEmail != null) {
+                String owner = normalize(userEmail);
+                ownerGenerations.incrementAndGet(stripe(owner));
+                String prefix = owner + KEY_SEPARATOR;
+                pages.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+            }
+        }
+    }
+
+    private static int stripe(Object key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (GENERATION_STRIPES - 1);
+    }
+
+    private static String normalize(String userEmail) {
+        return userEmail == null ? "" : userEmail.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static int weigh(Resume resume) {
+        long bytes = ENTRY_OVERHEAD
+                + chars(resume.getUserEmail()) + chars(resume.getJobDescription()) + chars(resume.getJobTitle())
+                + chars(resume.getFullName()) + chars(resume.getEmail()) + chars(resume.getPhone())
+                + chars(resume.getLocation()) + chars(resume.getSummary()) + chars(resume.getCoverLetter());
+        for (String skill : resume.getSkills()) {
+            bytes += chars(skill);
+        }
+        for (ResumeExperience item : resume.getExperience()) {
+            bytes += chars(item.getCompany()) + chars(item.getPosition()) + chars(item.getDuration());
+        }
+        for (ResumeEducation item : resume.getEducation()) {
+            bytes += chars(item.getDegree()) + chars(item.getUniversity()) + chars(item.getGraduationYear());
+        }
+        for (String project : resume.getProjects()) {
+            bytes += chars(project);
+        }
+        return (int) Math.min(Integer.MAX_VALUE, bytes);
+    }
+
+    private static int weigh(Map<String, Object> page) {
+        Object items = page.get("items");
+        int count = items instanceof List ? ((List<?>) items).size() : 0;
+        return ENTRY_OVERHEAD + count * SUMMARY_WEIGHT;
+    }
+
+    // Latin-1 strings are compacted to one byte per char; this over-counts them, which errs on the safe side.
+    private static long chars(String value) {
+        return value == null ? 0 : 40L + 2L * value.length();
+    }
+}
@@ -2,6 +2,7 @@ package com.resume.backend.service;
 
 import com.resume.backend.entity.Resume;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Map;
 
@@ -9,13 +10,23 @@ public interface ResumeService {
 
     Map<String, Object> generateResumeResponse(String userResumeDescription) throws IOException;
 
+    Map<String, Object> streamResumeResponse(String userResumeDescription, ResumeStreamListener listener);
+
     Map<String, Object> generateInterviewQuestionsBySkills(List<String> skills);
 
     Resume saveResume(Resume resume);
 
-    List<Resume> getResumesByUserEmail(String userEmail);
+    List<Resume> saveResumes(List<Resume> resumes);
+
+    Map<String, Object> getResumeSummaries(String userEmail, String cursor, int limit);
 
     Resume getResumeById(Long id);
 
     void deleteResume(Long id);
+
+    int deleteResumes(List<Long> ids);
+
+    List<String> getOwnerEmails(List<Long> ids);
+
+    void exportResumes(String userEmail, OutputStream out) throws IOException;
 }
@@ -1,24 +1,65 @@
 package com.resume.backend.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.resume.backend.entity.Resume;
 import com.resume.backend.repository.ResumeRepository;
+import com.resume.backend.repository.ResumeSummary;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import javax.persistence.EntityManager;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 @Service
 public class ResumeServiceImpl implements ResumeService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_BATCH_SIZE = 500;
+    private static final int EXPORT_CHUNK_SIZE = 50;
+
     private final GroqService groqService;
     private final ResumeRepository resumeRepository;
+    private final ResumeCache resumeCache;
+    private final TransactionTemplate readTransaction;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
 
     @Autowired
-    public ResumeServiceImpl(GroqService groqService, ResumeRepository resumeRepository) {
+    public ResumeServiceImpl(
+            GroqService groqService,
+            ResumeRepository resumeRepository,
+            ResumeCache resumeCache,
+            PlatformTransactionManager transactionManager,
+            EntityManager entityManager,
+            ObjectMapper objectMapper
+    ) {
         this.groqService = groqService;
         this.resumeRepository = resumeRepository;
+        this.resumeCache = resumeCache;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        // Reads open a transaction only on a cache miss, so hits never borrow a pooled connection.
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
     }
 
     @Override
@@ -26,28 +67,196 @@ public class ResumeServiceImpl implements ResumeService {
         return groqService.generateResume(userResumeDescription);
     }
 
+    @Override
+    public Map<String, Object> streamResumeResponse(String userResumeDescription, ResumeStreamListener listener) {
+        return groqService.streamResume(userResumeDescription, listener);
+    }
+
     @Override
     public Map<String, Object> generateInterviewQuestionsBySkills(List<String> skills) {
         return groqService.generateInterviewQuestions(skills);
     }
 
     @Override
+    @Transactional
     public Resume saveResume(Resume resume) {
-        return resumeRepository.save(resume);
+        applyDefaults(resume);
+        String previousEmail = resume.getId() == null ? null
+                : resumeRepository.findById(resume.getId()).map(Resume::getUserEmail).orElse(null);
+        Resume saved = resumeRepository.save(resume);
+        resumeCache.evict(saved.getId(), saved.getUserEmail(), previousEmail);
+        return saved;
+    }
+
+    @Override
+    @Transactional
+    public List<Resume> saveResumes(List<Resume> resumes) {
+        checkBatchSize(resumes.size());
+        List<Long> existingIds = new ArrayList<>();
+        for (Resume resume : resumes) {
+            applyDefaults(resume);
+            if (resume.getId() != null) {
+                existingIds.add(resume.getId());
+            }
+        }
+        List<String> previousEmails = existingIds.isEmpty() ? List.of() : resumeRepository.findOwnerEmails(existingIds);
+
+        List<Resume> saved = resumeRepository.saveAll(resumes);
+        for (String email : previousEmails) {
+            resumeCache.evict(null, email);
+        }
+        for (Resume resume : saved) {
+            resumeCache.evict(resume.getId(), resume.getUserEmail());
+        }
+        return saved;
     }
 
     @Override
-    public List<Resume> getResumesByUserEmail(String userEmail) {
-        return resumeRepository.findByUserEmailOrderByCreatedAtDesc(userEmail);
+    public Map<String, Object> getResumeSummaries(String userEmail, String cursor, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        if (cursor != null && !cursor.isBlank()) {
+            decodeCursor(cursor);
+        }
+        return resumeCache.getPage(userEmail, cursor, pageSize,
+                key -> readTransaction.execute(status -> loadSummaries(userEmail, cursor, pageSize)));
+    }
+
+    private Map<String, Object> loadSummaries(String userEmail, String cursor, int pageSize) {
+        // One extra row tells us whether another page exists without a count query.
+        Pageable window = PageRequest.of(0, pageSize + 1);
+        List<ResumeSummary> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = resumeRepository.findByUserEmailOrderByCreatedAtDescIdDesc(userEmail, window);
+        } else {
+            String[] position = decodeCursor(cursor);
+            rows = resumeRepository.findSummariesAfter(
+                    userEmail, LocalDateTime.parse(position[0]), Long.parseLong(position[1]), window);
+        }
+
+        boolean hasMore = rows.size() > pageSize;
+        List<ResumeSummary> items = List.copyOf(hasMore ? rows.subList(0, pageSize) : rows);
+        Map<String, Object> page = new HashMap<>();
+        page.put("items", items);
+        page.put("nextCursor", hasMore ? encodeCursor(items.get(pageSize - 1)) : null);
+        return Collections.unmodifiableMap(page);
     }
 
     @Override
     public Resume getResumeById(Long id) {
-        return resumeRepository.findById(id).orElse(null);
+        return resumeCache.getById(id, key -> readTransaction.execute(status -> {
+            Resume resume = resumeRepository.findById(key).orElse(null);
+            if (resume != null) {
+                loadSections(resume);
+            }
+            return resume;
+        }));
     }
 
     @Override
+    @Transactional
     public void deleteResume(Long id) {
-        resumeRepository.deleteById(id);
+        resumeRepository.findById(id).ifPresent(resume -> {
+            resumeRepository.delete(resume);
+            resumeCache.evict(id, resume.getUserEmail());
+        });
+    }
+
+    @Override
+    @Transactional
+    public int deleteResumes(List<Long> ids) {
+        checkBatchSize(ids.size());
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        List<String> owners = resumeRepository.findOwnerEmails(ids);
+        resumeRepository.deleteSkillsByResumeIds(ids);
+        resumeRepository.deleteExperienceByResumeIds(ids);
+        resumeRepository.deleteEducationByResumeIds(ids);
+        resumeRepository.deleteProjectsByResumeIds(ids);
+        int deleted = resumeRepository.deleteByIdIn(ids);
+        for (Long id : ids) {
+            resumeCache.evict(id);
+        }
+        resumeCache.evict(null, owners.toArray(new String[0]));
+        return deleted;
+    }
+
+    @Override
+    public List<String> getOwnerEmails(List<Long> ids) {
+        return ids.isEmpty() ? List.of() : resumeRepository.findOwnerEmails(ids);
+    }
+
+    @Override
+    public void exportResumes(String userEmail, OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(Resume.class);
+        try {
+            readTransaction.executeWithoutResult(status -> {
+                List<Resume> chunk = new ArrayList<>(EXPORT_CHUNK_SIZE);
+                try (Stream<Resume> resumes = resumeRepository.streamByUserEmail(userEmail)) {
+                    Iterator<Resume> iterator = resumes.iterator();
+                    while (iterator.hasNext()) {
+                        chunk.add(iterator.next());
+                        if (chunk.size() == EXPORT_CHUNK_SIZE || !iterator.hasNext()) {
+                            writeChunk(writer, out, chunk);
+                        }
+                    }
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    // Sections for the whole chunk load in one @BatchSize query each; detaching keeps the session small.
+    private void writeChunk(ObjectWriter writer, OutputStream out, List<Resume> chunk) {
+        chunk.forEach(ResumeServiceImpl::loadSections);
+        try {
+            for (Resume resume : chunk) {
+                out.write(writer.writeValueAsBytes(resume));
+                out.write('\n');
+                entityManager.detach(resume);
+            }
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        chunk.clear();
+    }
+
+    private static void applyDefaults(Resume resume) {
+        if ((resume.getJobTitle() == null || resume.getJobTitle().isBlank()) && !resume.getExperience().isEmpty()) {
+            resume.setJobTitle(resume.getExperience().get(0).getPosition());
+        }
+    }
+
+    private static void checkBatchSize(int size) {
+        if (size > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_SIZE + " resumes per request");
+        }
+    }
+
+    private static String encodeCursor(ResumeSummary last) {
+        String position = last.getCreatedAt() + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = position.split("\\|", 2);
+            LocalDateTime.parse(parts[0]);
+            Long.parseLong(parts[1]);
+            return parts;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    // Child collections are lazy and fetched with @BatchSize, so a page of resumes costs one query per section.
+    private static void loadSections(Resume resume) {
+        Hibernate.initialize(resume.getSkills());
+        Hibernate.initialize(resume.getExperience());
+        Hibernate.initialize(resume.getEducation());
+        Hibernate.initialize(resume.getProjects());
     }
 }
@@ -0,0 +1,11 @@
+package com.resume.backend.service;
+
+/**
+ * Receives progress from a streaming resume generation.
+ */
+public interface ResumeStreamListener {
+
+    void onToken(String text);
+
+    void onSection(String name, Object value);
+}
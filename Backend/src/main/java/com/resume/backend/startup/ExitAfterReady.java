@@ -0,0 +1,29 @@
+package com.resume.backend.startup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Shuts the JVM down as soon as the context is ready. Used by the CDS training run, which only needs
+ * startup to load the application's classes before the archive is written at exit.
+ */
+@Component
+@ConditionalOnProperty(name = "app.startup.exit-after-ready", havingValue = "true")
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class ExitAfterReady implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final Logger log = LoggerFactory.getLogger(ExitAfterReady.class);
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        log.info("app.startup.exit-after-ready is set; exiting");
+        System.exit(SpringApplication.exit(event.getApplicationContext()));
+    }
+}
@@ -0,0 +1,61 @@
+package com.resume.backend.startup;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Records how long after JVM start the first request finished, including whatever lazy beans
+ * it had to initialise. Published once as application.first.request.time.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class FirstRequestTimingFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(FirstRequestTimingFilter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final AtomicBoolean seen = new AtomicBoolean();
+
+    public FirstRequestTimingFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (seen.get()) {
+            chain.doFilter(request, response);
+            return;
+        }
+        long started = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (seen.compareAndSet(false, true)) {
+                long uptime = ManagementFactory.getRuntimeMXBean().getUptime();
+                log.info("First request {} {} completed {} ms after JVM start (took {} ms)",
+                        request.getMethod(), request.getRequestURI(), uptime,
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+                Gauge.builder("application.first.request.time", () -> uptime / 1000.0)
+                        .description("Seconds from JVM start until the first HTTP request completed")
+                        .baseUnit("seconds")
+                        .register(meterRegistry);
+            }
+        }
+    }
+}
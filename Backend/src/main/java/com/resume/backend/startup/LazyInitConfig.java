@@ -0,0 +1,21 @@
+package com.resume.backend.startup;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationInitializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+
+/**
+ * Beans that stay eager when spring.main.lazy-initialization is on (prod profile): pending migrations and
+ * Hibernate's schema validation should fail the deploy, not the first request that touches a repository.
+ */
+@Configuration(proxyBeanMethods = false)
+public class LazyInitConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter schemaBeansExcludeFilter() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                FlywayMigrationInitializer.class, AbstractEntityManagerFactoryBean.class);
+    }
+}
@@ -0,0 +1,67 @@
+package com.resume.backend.startup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.stream.Collectors;
+
+/**
+ * Logs JVM-start-to-ready time and the slowest recorded startup steps (bean instantiation,
+ * context refresh phases). The full timeline stays available at /actuator/startup.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class StartupTimingReporter implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupTimingReporter.class);
+
+    private final int slowestSteps;
+
+    public StartupTimingReporter(@Value("${app.startup.report-steps:10}") int slowestSteps) {
+        this.slowestSteps = slowestSteps;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        long uptime = ManagementFactory.getRuntimeMXBean().getUptime();
+        log.info("Ready {} ms after JVM start ({} ms in SpringApplication.run)",
+                uptime, event.getTimeTaken() == null ? -1 : event.getTimeTaken().toMillis());
+
+        ApplicationStartup startup = event.getApplicationContext().getApplicationStartup();
+        if (!(startup instanceof BufferingApplicationStartup) || slowestSteps <= 0) {
+            return;
+        }
+        StartupTimeline timeline = ((BufferingApplicationStartup) startup).getBufferedTimeline();
+        String slowest = timeline.getEvents().stream()
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .limit(slowestSteps)
+                .map(StartupTimingReporter::describe)
+                .collect(Collectors.joining("\n  "));
+        log.info("Slowest startup steps:\n  {}", slowest);
+    }
+
+    private static String describe(StartupTimeline.TimelineEvent event) {
+        StartupStep step = event.getStartupStep();
+        StringBuilder line = new StringBuilder()
+                .append(event.getDuration().toMillis()).append(" ms ").append(step.getName());
+        for (StartupStep.Tag tag : step.getTags()) {
+            if ("beanName".equals(tag.getKey())) {
+                line.append(' ').append(tag.getValue());
+            }
+        }
+        return line.toString();
+    }
+}
@@ -0,0 +1,238 @@
+package com.resume.backend.stub;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stand-in for Groq's OpenAI-compatible chat completions endpoint, for load tests that must not spend
+ * quota or reach the network. Enabled with app.groq.stub.enabled=true; point app.groq.api-url at
+ * /openai/v1/chat/completions on this instance or on a second one.
+ * <p>
+ * Every call answers with a canned resume or interview payload after a log-normal time to first token
+ * (median and p99 configurable), followed by completion tokens at a fixed rate, either in one JSON body or
+ * as SSE chunks when the request sets {@code stream: true}. 500s and 429s (with Retry-After) are injected
+ * at the configured rates. Random draws are seeded per request number, so a run is reproducible.
+ * Responses are scheduled rather than slept on, so the stub holds no servlet thread while it "generates".
+ */
+@RestController
+@ConditionalOnProperty(name = "app.groq.stub.enabled", havingValue = "true")
+@RequestMapping("/openai/v1")
+public class GroqStubController {
+
+    private static final Logger log = LoggerFactory.getLogger(GroqStubController.class);
+
+    private static final double Z_99 = 2.326;
+    private static final int CHARS_PER_TOKEN = 4;
+    private static final MediaType TEXT = MediaType.TEXT_PLAIN;
+
+    private final ObjectMapper objectMapper;
+    private final ScheduledExecutorService scheduler;
+    private final String resumePayload;
+    private final String interviewPayload;
+    private final double latencyMu;
+    private final double latencySigma;
+    private final double tokensPerSecond;
+    private final int chunkTokens;
+    private final double errorRate;
+    private final double throttleRate;
+    private final Duration retryAfter;
+    private final long seed;
+    private final AtomicLong requests = new AtomicLong();
+
+    public GroqStubController(
+            ObjectMapper objectMapper,
+            @Value("${app.groq.stub.latency-median:400ms}") Duration latencyMedian,
+            @Value("${app.groq.stub.latency-p99:2s}") Duration latencyP99,
+            @Value("${app.groq.stub.tokens-per-second:250}") double tokensPerSecond,
+            @Value("${app.groq.stub.chunk-tokens:4}") int chunkTokens,
+            @Value("${app.groq.stub.error-rate:0}") double errorRate,
+            @Value("${app.groq.stub.throttle-rate:0}") double throttleRate,
+            @Value("${app.groq.stub.retry-after:1s}") Duration retryAfter,
+            @Value("${app.groq.stub.seed:42}") long seed,
+            @Value("${app.groq.stub.threads:2}") int threads
+    ) {
+        this.objectMapper = objectMapper;
+        this.latencyMu = Math.log(Math.max(1, latencyMedian.toNanos()));
+        this.latencySigma = latencyP99.compareTo(latencyMedian) > 0
+                ? Math.log((double) latencyP99.toNanos() / latencyMedian.toNanos()) / Z_99
+                : 0.0;
+        this.tokensPerSecond = tokensPerSecond;
+        this.chunkTokens = Math.max(1, chunkTokens);
+        this.errorRate = errorRate;
+        this.throttleRate = throttleRate;
+        this.retryAfter = retryAfter;
+        this.seed = seed;
+        this.resumePayload = load("stub/resume.json");
+        this.interviewPayload = load("stub/interview.json");
+        this.scheduler = Executors.newScheduledThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "groq-stub");
+            thread.setDaemon(true);
+            return thread;
+        });
+        log.warn("Groq stub enabled at /openai/v1/chat/completions (median {}, p99 {}, {} tokens/s, {} errors, {} 429s)",
+                latencyMedian, latencyP99, tokensPerSecond, errorRate, throttleRate);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    @PostMapping("/chat/completions")
+    public ResponseEntity<ResponseBodyEmitter> chatCompletions(@RequestBody JsonNode request) {
+        SplittableRandom random = new SplittableRandom(seed + requests.getAndIncrement());
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter();
+
+        double roll = random.nextDouble();
+        if (roll < throttleRate) {
+            send(emitter, error("Rate limit reached for model, please try again later", "rate_limit_exceeded"));
+            emitter.complete();
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter.toMillis() / 1000.0))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(emitter);
+        }
+
+        long firstTokenNanos = (long) Math.exp(latencyMu + latencySigma * random.nextGaussian());
+        if (roll < throttleRate + errorRate) {
+            scheduler.schedule(() -> {
+                send(emitter, error("Internal server error", "internal_server_error"));
+                emitter.complete();
+            }, firstTokenNanos, TimeUnit.NANOSECONDS);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(emitter);
+        }
+
+        String model = request.path("model").asText("stub");
+        String prompt = request.path("messages").path(0).path("content").asText("");
+        // Only the interview prompt spells out a "questions" array in its expected JSON shape.
+        String content = prompt.contains("\"questions\"") ? interviewPayload : resumePayload;
+        String id = "chatcmpl-" + UUID.randomUUID();
+
+        if (request.path("stream").asBoolean(false)) {
+            long chunkNanos = (long) (chunkTokens / tokensPerSecond * 1_000_000_000L);
+            ObjectNode last = chunkNode(id, model, null, "stop");
+            usage(last.putObject("x_groq"), prompt, content);
+            scheduler.schedule(() -> streamChunk(emitter, id, model, content, 0, chunkNanos, last.toString()),
+                    firstTokenNanos, TimeUnit.NANOSECONDS);
+            return ResponseEntity.ok().contentType(MediaType.TEXT_EVENT_STREAM).body(emitter);
+        }
+
+        long generationNanos = (long) (content.length() / (double) CHARS_PER_TOKEN / tokensPerSecond * 1_000_000_000L);
+        scheduler.schedule(() -> {
+            send(emitter, completion(id, model, prompt, content));
+            emitter.complete();
+        }, firstTokenNanos + generationNanos, TimeUnit.NANOSECONDS);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(emitter);
+    }
+
+    private void streamChunk(ResponseBodyEmitter emitter, String id, String model, String content,
+                             int offset, long chunkNanos, String lastChunk) {
+        if (offset >= content.length()) {
+            send(emitter, "data: " + lastChunk + "\n\n");
+            send(emitter, "data: [DONE]\n\n");
+            emitter.complete();
+            return;
+        }
+        int end = Math.min(content.length(), offset + chunkTokens * CHARS_PER_TOKEN);
+        if (send(emitter, "data: " + chunkNode(id, model, content.substring(offset, end), null) + "\n\n")) {
+            scheduler.schedule(() -> streamChunk(emitter, id, model, content, end, chunkNanos, lastChunk),
+                    chunkNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private boolean send(ResponseBodyEmitter emitter, String body) {
+        try {
+            emitter.send(body, TEXT);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Groq stub client went away", e);
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private String completion(String id, String model, String prompt, String content) {
+        ObjectNode body = envelope(id, model, "chat.completion");
+        ObjectNode choice = body.putArray("choices").addObject();
+        choice.put("index", 0);
+        choice.putObject("message").put("role", "assistant").put("content", content);
+        choice.put("finish_reason", "stop");
+        usage(body, prompt, content);
+        return body.toString();
+    }
+
+    // Groq puts usage at the top level of a completion and under x_groq on the last stream chunk.
+    private static void usage(ObjectNode parent, String prompt, String content) {
+        int promptTokens = prompt.length() / CHARS_PER_TOKEN;
+        int completionTokens = content.length() / CHARS_PER_TOKEN;
+        parent.putObject("usage")
+                .put("prompt_tokens", promptTokens)
+                .put("completion_tokens", completionTokens)
+                .put("total_tokens", promptTokens + completionTokens);
+    }
+
+    private ObjectNode chunkNode(String id, String model, String content, String finishReason) {
+        ObjectNode body = envelope(id, model, "chat.completion.chunk");
+        ObjectNode choice = body.putArray("choices").addObject();
+        choice.put("index", 0);
+        ObjectNode delta = choice.putObject("delta");
+        if (content != null) {
+            delta.put("content", content);
+        }
+        choice.put("finish_reason", finishReason);
+        return body;
+    }
+
+    private ObjectNode envelope(String id, String model, String object) {
+        ObjectNode body = objectMapper.createObjectNode();
+        body.put("id", id);
+        body.put("object", object);
+        body.put("created", System.currentTimeMillis() / 1000);
+        body.put("model", model);
+        return body;
+    }
+
+    private String error(String message, String code) {
+        ObjectNode body = objectMapper.createObjectNode();
+        body.putObject("error").put("message", message).put("type", "stub").put("code", code);
+        return body.toString();
+    }
+
+    private static String load(String resource) {
+        try {
+            return StreamUtils.copyToString(new ClassPathResource(resource).getInputStream(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Missing Groq stub payload " + resource, e);
+        }
+    }
+}
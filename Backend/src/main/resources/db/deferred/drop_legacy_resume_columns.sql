@@ -0,0 +1,29 @@
+-- Not applied yet. Sections were copied to child tables in V2; the wide columns and the single-column email
+-- index (superseded by idx_resumes_user_created) are no longer read, but they stay for one release so a
+-- rollback to the previous build still finds its data. Once the V2 release has run in production, move
+-- this file to db/migration under the next free version number.
+
+ALTER TABLE resumes
+    DROP COLUMN skill_1,
+    DROP COLUMN skill_2,
+    DROP COLUMN skill_3,
+    DROP COLUMN skill_4,
+    DROP COLUMN skill_5,
+    DROP COLUMN skill_6,
+    DROP COLUMN skill_7,
+    DROP COLUMN skill_8,
+    DROP COLUMN skill_9,
+    DROP COLUMN skill_10,
+    DROP COLUMN company_1,
+    DROP COLUMN position_1,
+    DROP COLUMN duration_1,
+    DROP COLUMN company_2,
+    DROP COLUMN position_2,
+    DROP COLUMN duration_2,
+    DROP COLUMN degree_1,
+    DROP COLUMN university_1,
+    DROP COLUMN graduation_year_1,
+    DROP COLUMN project_1,
+    DROP COLUMN project_2;
+
+DROP INDEX idx_user_email ON resumes;
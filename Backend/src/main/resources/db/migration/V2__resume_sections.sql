@@ -0,0 +1,90 @@
+-- Resume sections move from fixed columns to child tables, plus the listing job title and keyset index.
+
+ALTER TABLE resumes ADD COLUMN job_title VARCHAR(255);
+
+-- Resume sections, one row per item in display order
+CREATE TABLE resume_skills (
+    resume_id BIGINT NOT NULL,
+    skill_order INT NOT NULL,
+    name VARCHAR(255),
+    PRIMARY KEY (resume_id, skill_order),
+    CONSTRAINT fk_resume_skills_resume FOREIGN KEY (resume_id) REFERENCES resumes (id)
+);
+
+CREATE TABLE resume_experience (
+    resume_id BIGINT NOT NULL,
+    item_order INT NOT NULL,
+    company VARCHAR(255),
+    position VARCHAR(255),
+    duration VARCHAR(100),
+    PRIMARY KEY (resume_id, item_order),
+    CONSTRAINT fk_resume_experience_resume FOREIGN KEY (resume_id) REFERENCES resumes (id)
+);
+
+CREATE TABLE resume_education (
+    resume_id BIGINT NOT NULL,
+    item_order INT NOT NULL,
+    degree VARCHAR(255),
+    university VARCHAR(255),
+    graduation_year VARCHAR(50),
+    PRIMARY KEY (resume_id, item_order),
+    CONSTRAINT fk_resume_education_resume FOREIGN KEY (resume_id) REFERENCES resumes (id)
+);
+
+CREATE TABLE resume_projects (
+    resume_id BIGINT NOT NULL,
+    item_order INT NOT NULL,
+    description TEXT,
+    PRIMARY KEY (resume_id, item_order),
+    CONSTRAINT fk_resume_projects_resume FOREIGN KEY (resume_id) REFERENCES resumes (id)
+);
+
+-- Copy sections out of the legacy wide columns (skill_1..skill_10, company_N, degree_1, project_N).
+INSERT INTO resume_skills (resume_id, skill_order, name)
+SELECT resume_id, ROW_NUMBER() OVER (PARTITION BY resume_id ORDER BY slot) - 1, name
+FROM (
+    SELECT id AS resume_id, 1 AS slot, skill_1 AS name FROM resumes
+    UNION ALL SELECT id, 2, skill_2 FROM resumes
+    UNION ALL SELECT id, 3, skill_3 FROM resumes
+    UNION ALL SELECT id, 4, skill_4 FROM resumes
+    UNION ALL SELECT id, 5, skill_5 FROM resumes
+    UNION ALL SELECT id, 6, skill_6 FROM resumes
+    UNION ALL SELECT id, 7, skill_7 FROM resumes
+    UNION ALL SELECT id, 8, skill_8 FROM resumes
+    UNION ALL SELECT id, 9, skill_9 FROM resumes
+    UNION ALL SELECT id, 10, skill_10 FROM resumes
+) legacy
+WHERE name IS NOT NULL AND name <> ''
+  AND NOT EXISTS (SELECT 1 FROM resume_skills s WHERE s.resume_id = legacy.resume_id);
+
+INSERT INTO resume_experience (resume_id, item_order, company, position, duration)
+SELECT resume_id, ROW_NUMBER() OVER (PARTITION BY resume_id ORDER BY slot) - 1, company, position, duration
+FROM (
+    SELECT id AS resume_id, 1 AS slot, company_1 AS company, position_1 AS position, duration_1 AS duration FROM resumes
+    UNION ALL SELECT id, 2, company_2, position_2, duration_2 FROM resumes
+) legacy
+WHERE company IS NOT NULL AND company <> ''
+  AND NOT EXISTS (SELECT 1 FROM resume_experience e WHERE e.resume_id = legacy.resume_id);
+
+INSERT INTO resume_education (resume_id, item_order, degree, university, graduation_year)
+SELECT id, 0, degree_1, university_1, graduation_year_1
+FROM resumes r
+WHERE degree_1 IS NOT NULL AND degree_1 <> ''
+  AND NOT EXISTS (SELECT 1 FROM resume_education e WHERE e.resume_id = r.id);
+
+INSERT INTO resume_projects (resume_id, item_order, description)
+SELECT resume_id, ROW_NUMBER() OVER (PARTITION BY resume_id ORDER BY slot) - 1, description
+FROM (
+    SELECT id AS resume_id, 1 AS slot, project_1 AS description FROM resumes
+    UNION ALL SELECT id, 2, project_2 FROM resumes
+) legacy
+WHERE description IS NOT NULL AND description <> ''
+  AND NOT EXISTS (SELECT 1 FROM resume_projects p WHERE p.resume_id = legacy.resume_id);
+
+-- Backfill the listing job title from the first experience entry
+UPDATE resumes r
+SET job_title = (SELECT e.position FROM resume_experience e WHERE e.resume_id = r.id AND e.item_order = 0)
+WHERE r.job_title IS NULL;
+
+-- Keyset pagination of a user's resumes, newest first: WHERE user_email = ? AND (created_at, id) < (?, ?)
+CREATE INDEX idx_resumes_user_created ON resumes (user_email, created_at, id);
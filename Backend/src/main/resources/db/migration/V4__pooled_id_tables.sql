@@ -0,0 +1,16 @@
+-- Id allocation. MySQL has no sequences, so Hibernate's pooled generator keeps each one in a single-row
+-- table and reserves 50 ids per round trip. Existing AUTO_INCREMENT ids are left alone; the counters start
+-- one allocation block past the current maximum so pooled ids can never collide with them.
+CREATE TABLE resumes_seq (
+    next_val BIGINT
+);
+
+CREATE TABLE auth_users_seq (
+    next_val BIGINT
+);
+
+INSERT INTO resumes_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 51 FROM resumes;
+
+INSERT INTO auth_users_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 51 FROM auth_users;
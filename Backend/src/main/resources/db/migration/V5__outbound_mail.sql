@@ -0,0 +1,24 @@
+-- Outbound mail queue. Messages are written in the transaction that produced them and delivered by the
+-- background dispatcher; next_attempt_at doubles as the claim lease while a batch is being sent.
+CREATE TABLE outbound_mail (
+    id BIGINT PRIMARY KEY,
+    mail_type VARCHAR(40) NOT NULL,
+    recipient VARCHAR(255) NOT NULL,
+    subject VARCHAR(255) NOT NULL,
+    body TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INT NOT NULL,
+    next_attempt_at DATETIME(6) NOT NULL,
+    last_error VARCHAR(500),
+    created_at DATETIME(6) NOT NULL,
+    sent_at DATETIME(6)
+);
+
+CREATE INDEX idx_outbound_mail_due ON outbound_mail (status, next_attempt_at);
+CREATE INDEX idx_outbound_mail_recipient ON outbound_mail (recipient, status, sent_at);
+
+CREATE TABLE outbound_mail_seq (
+    next_val BIGINT
+);
+
+INSERT INTO outbound_mail_seq (next_val) VALUES (1);
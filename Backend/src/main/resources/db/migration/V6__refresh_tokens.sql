@@ -0,0 +1,12 @@
+-- Live refresh tokens by id (the JWT jti). Refreshing deletes the row it presents, so a token works once
+-- across all instances and restarts; logout and password reset delete rows the same way.
+CREATE TABLE refresh_tokens (
+    id VARCHAR(32) PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    CONSTRAINT fk_refresh_tokens_user FOREIGN KEY (user_id) REFERENCES auth_users (id)
+);
+
+CREATE INDEX idx_refresh_tokens_user ON refresh_tokens (user_id);
+CREATE INDEX idx_refresh_tokens_expires ON refresh_tokens (expires_at);
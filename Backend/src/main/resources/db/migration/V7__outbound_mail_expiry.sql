@@ -0,0 +1,5 @@
+-- Mail that is useless after a deadline (reset codes) carries it, and the dispatcher gives up at that point
+-- instead of retrying. Delivered and failed rows are purged after app.mail.retention, by creation time.
+ALTER TABLE outbound_mail ADD COLUMN expires_at DATETIME(6);
+
+CREATE INDEX idx_outbound_mail_created ON outbound_mail (status, created_at);
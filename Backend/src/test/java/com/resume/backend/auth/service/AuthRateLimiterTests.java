@@ -0,0 +1,79 @@
+package com.resume.backend.auth.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AuthRateLimiterTests {
+
+    @Test
+    void rejectsAnIpOverItsLimitPerAction() {
+        AuthRateLimiter limiter = limiter(3, 100, 1000);
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire("login", "10.0.0.1", "user" + i + "@example.com");
+        }
+
+        RateLimitExceededException error = assertThrows(RateLimitExceededException.class,
+                () -> limiter.acquire("login", "10.0.0.1", "other@example.com"));
+        assertTrue(error.getRetryAfterSeconds() >= 1);
+        assertDoesNotThrow(() -> limiter.acquire("login", "10.0.0.2", "other@example.com"));
+        assertDoesNotThrow(() -> limiter.acquire("signup", "10.0.0.1", "other@example.com"));
+    }
+
+    @Test
+    void repeatedFailuresLockTheEmailUntilASuccessClearsThem() {
+        AuthRateLimiter limiter = limiter(100, 100, 1000);
+        for (int i = 0; i < 4; i++) {
+            limiter.recordFailure("reset-password", "Ada@Example.com ");
+        }
+        limiter.recordSuccess("reset-password", "ada@example.com");
+        for (int i = 0; i < 4; i++) {
+            limiter.recordFailure("reset-password", "ada@example.com");
+        }
+        assertDoesNotThrow(() -> limiter.acquire("reset-password", "10.0.0.1", "ada@example.com"));
+
+        limiter.recordFailure("reset-password", "ada@example.com");
+
+        RateLimitExceededException error = assertThrows(RateLimitExceededException.class,
+                () -> limiter.acquire("reset-password", "10.0.0.9", "ADA@example.com"));
+        assertTrue(error.getRetryAfterSeconds() > 60);
+        assertDoesNotThrow(() -> limiter.acquire("login", "10.0.0.9", "ada@example.com"));
+    }
+
+    @Test
+    void memoryStaysBoundedUnderManyDistinctKeys() {
+        AuthRateLimiter limiter = limiter(100, 100, 256);
+        for (int i = 0; i < 10_000; i++) {
+            limiter.acquire("login", "10.0." + (i / 256) + "." + (i % 256), null);
+        }
+
+        assertTrue(limiter.size() <= 256, String.valueOf(limiter.size()));
+        assertEquals(0, limiter(1, 1, 16).size());
+    }
+
+    @Test
+    void floodingWithNewKeysDoesNotLiftALockout() {
+        AuthRateLimiter limiter = limiter(1_000_000, 100, 16);
+        for (int i = 0; i < 5; i++) {
+            limiter.recordFailure("login", "ada@example.com");
+        }
+        for (int i = 0; i < 10_000; i++) {
+            limiter.acquire("login", "10.1." + (i / 256) + "." + (i % 256), "user" + i + "@example.com");
+            limiter.recordFailure("login", "user" + i + "@example.com");
+        }
+
+        assertThrows(RateLimitExceededException.class,
+                () -> limiter.acquire("login", "10.0.0.1", "ada@example.com"));
+    }
+
+    private static AuthRateLimiter limiter(int ipLimit, int emailLimit, int maxKeys) {
+        return new AuthRateLimiter(new SimpleMeterRegistry(), Duration.ofMinutes(1), ipLimit, emailLimit, maxKeys,
+                16, 5, Duration.ofMinutes(15), Duration.ofMinutes(15));
+    }
+}
@@ -0,0 +1,125 @@
+package com.resume.backend.auth.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.client.RestTemplate;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GoogleIdTokenVerifierTests {
+
+    private static final String CLIENT_ID = "client-123.apps.googleusercontent.com";
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private KeyPair keyPair;
+    private GoogleIdTokenVerifier verifier;
+
+    @BeforeEach
+    void setUp(@TempDir Path dir) throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        keyPair = generator.generateKeyPair();
+        RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+
+        Path jwks = dir.resolve("jwks.json");
+        Files.writeString(jwks, objectMapper.writeValueAsString(Map.of("keys", List.of(Map.of(
+                "kty", "RSA", "alg", "RS256", "use", "sig", "kid", "key-1",
+                "n", unsigned(publicKey.getModulus()), "e", unsigned(publicKey.getPublicExponent()))))));
+
+        verifier = new GoogleIdTokenVerifier(new RestTemplate(), objectMapper, jwks.toUri().toString(), CLIENT_ID,
+                List.of("accounts.google.com", "https://accounts.google.com"), Duration.ofSeconds(60),
+                Duration.ofHours(1), Duration.ofSeconds(30), false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        verifier.shutdown();
+    }
+
+    @Test
+    void acceptsTokenSignedWithPublishedKey() throws Exception {
+        Map<String, Object> claims = verifier.verify(token("key-1", CLIENT_ID, 3600));
+
+        assertEquals("ada@example.com", claims.get("email"));
+        assertEquals(Boolean.TRUE, claims.get("email_verified"));
+    }
+
+    @Test
+    void rejectsWrongAudienceExpiryUnknownKeyAndTampering() throws Exception {
+        assertMessage("audience mismatch", token("key-1", "someone-else", 3600));
+        assertMessage("expired", token("key-1", CLIENT_ID, -3600));
+        assertMessage("unknown key", token("key-2", CLIENT_ID, 3600));
+
+        String valid = token("key-1", CLIENT_ID, 3600);
+        String[] parts = valid.split("\\.");
+        String forgedClaims = BASE64_URL.encodeToString(new String(Base64.getUrlDecoder().decode(parts[1]),
+                StandardCharsets.UTF_8).replace("ada@", "eve@").getBytes(StandardCharsets.UTF_8));
+        assertMessage("signature", parts[0] + "." + forgedClaims + "." + parts[2]);
+    }
+
+    @Test
+    void rejectsTokenIssuedForAnotherClient() throws Exception {
+        assertMessage("audience mismatch", token("key-1", "other-app.apps.googleusercontent.com", 3600));
+    }
+
+    @Test
+    void refusesEveryTokenWhenNoClientIdIsConfigured(@TempDir Path dir) throws Exception {
+        GoogleIdTokenVerifier unconfigured = new GoogleIdTokenVerifier(new RestTemplate(), objectMapper,
+                dir.resolve("missing.json").toUri().toString(), "", List.of("https://accounts.google.com"),
+                Duration.ofSeconds(60), Duration.ofHours(1), Duration.ofSeconds(30), false);
+        try {
+            String token = token("key-1", "other-app.apps.googleusercontent.com", 3600);
+            IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                    () -> unconfigured.verify(token));
+            assertEquals("Google sign-in not configured", error.getMessage());
+        } finally {
+            unconfigured.shutdown();
+        }
+    }
+
+    private void assertMessage(String expected, String token) {
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class, () -> verifier.verify(token));
+        assertTrue(error.getMessage().contains(expected), error.getMessage());
+    }
+
+    private String token(String kid, String audience, long expiresIn) throws Exception {
+        long now = System.currentTimeMillis() / 1000;
+        String header = encode(Map.of("alg", "RS256", "kid", kid, "typ", "JWT"));
+        String claims = encode(Map.of("iss", "https://accounts.google.com", "aud", audience, "sub", "1001",
+                "email", "ada@example.com", "email_verified", true, "iat", now, "exp", now + expiresIn));
+        Signature signature = Signature.getInstance("SHA256withRSA");
+        signature.initSign(keyPair.getPrivate());
+        signature.update((header + "." + claims).getBytes(StandardCharsets.US_ASCII));
+        return header + "." + claims + "." + BASE64_URL.encodeToString(signature.sign());
+    }
+
+    private String encode(Map<String, Object> json) throws Exception {
+        return BASE64_URL.encodeToString(objectMapper.writeValueAsBytes(json));
+    }
+
+    private static String unsigned(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        int offset = bytes[0] == 0 ? 1 : 0;
+        return BASE64_URL.encodeToString(Arrays.copyOfRange(bytes, offset, bytes.length));
+    }
+}
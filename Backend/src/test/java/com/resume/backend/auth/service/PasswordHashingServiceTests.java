@@ -0,0 +1,74 @@
+package com.resume.backend.auth.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PasswordHashingServiceTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ThreadPoolTaskExecutor executor = executor();
+
+    @AfterEach
+    void shutDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void flagsHashesBelowTheConfiguredCost() {
+        PasswordHashingService hashing = new PasswordHashingService(
+                new BCryptPasswordEncoder(5), executor, meterRegistry, Duration.ofSeconds(5));
+        String legacy = new BCryptPasswordEncoder(4).encode("secret1");
+        String current = hashing.hash("secret1");
+
+        assertTrue(hashing.verify("secret1", legacy));
+        assertTrue(hashing.needsRehash(legacy));
+        assertFalse(hashing.needsRehash(current));
+        assertFalse(hashing.verify("secret1", null));
+    }
+
+    @Test
+    void rejectsWhenTheQueueIsFull() throws Exception {
+        PasswordHashingService hashing = new PasswordHashingService(
+                new BCryptPasswordEncoder(4), executor, meterRegistry, Duration.ofSeconds(5));
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> await(release));
+        executor.execute(() -> await(release));
+
+        try {
+            assertThrows(TaskRejectedException.class, () -> hashing.hash("secret1"));
+            assertEquals(1.0, meterRegistry.get("auth.password.rejected").counter().count());
+            assertEquals(1.0, meterRegistry.get("auth.password.queue").gauge().value());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private static ThreadPoolTaskExecutor executor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.initialize();
+        return executor;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
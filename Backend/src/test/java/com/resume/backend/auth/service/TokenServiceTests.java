@@ -0,0 +1,92 @@
+package com.resume.backend.auth.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resume.backend.auth.entity.AuthUser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenServiceTests {
+
+    private static final String SECRET = "test-secret-that-is-at-least-32-bytes-long";
+
+    private final TokenRevocationList revocationList =
+            new TokenRevocationList(new SimpleMeterRegistry(), 4096, Duration.ofMinutes(1));
+
+    @Test
+    void verifiesOwnTokensWithoutState() {
+        TokenService tokens = tokenService(Duration.ofMinutes(15));
+        String access = tokens.issueAccessToken(user());
+
+        TokenService.TokenClaims claims = tokens.verify(access, TokenService.ACCESS);
+
+        assertEquals(7L, claims.userId());
+        assertEquals("ada@example.com", claims.email());
+        assertEquals("access", claims.type());
+        assertEquals(3, access.split("\\.").length);
+    }
+
+    @Test
+    void rejectsForgedExpiredAndMisusedTokens() {
+        TokenService tokens = tokenService(Duration.ofMinutes(15));
+        String access = tokens.issueAccessToken(user());
+        String refresh = tokens.issueRefreshToken(user()).token();
+        String otherKey = new TokenService(new ObjectMapper(), revocationList,
+                "another-secret-that-is-at-least-32-bytes", Duration.ofMinutes(15), Duration.ofDays(1))
+                .issueAccessToken(user());
+
+        assertMessage("signature", () -> tokens.verify(otherKey, TokenService.ACCESS));
+        assertMessage("type", () -> tokens.verify(refresh, TokenService.ACCESS));
+        assertMessage("Malformed", () -> tokens.verify("not-a-token", TokenService.ACCESS));
+        String expired = tokenService(Duration.ofSeconds(-1)).issueAccessToken(user());
+        assertMessage("expired", () -> tokens.verify(expired, TokenService.ACCESS));
+    }
+
+    @Test
+    void revokedTokensStopVerifying() {
+        TokenService tokens = tokenService(Duration.ofMinutes(15));
+        String revoked = tokens.issueAccessToken(user());
+        String kept = tokens.issueAccessToken(user());
+
+        tokens.revoke(tokens.verify(revoked, TokenService.ACCESS));
+
+        assertMessage("revoked", () -> tokens.verify(revoked, TokenService.ACCESS));
+        assertEquals("ada@example.com", tokens.verify(kept, TokenService.ACCESS).email());
+    }
+
+    @Test
+    void revocationListAnswersExactlyDespiteFilterCollisions() {
+        TokenRevocationList tiny = new TokenRevocationList(new SimpleMeterRegistry(), 64, Duration.ofMinutes(1));
+        long expiresAt = System.currentTimeMillis() / 1000 + 60;
+        for (int i = 0; i < 100; i++) {
+            tiny.revoke("revoked-" + i, expiresAt);
+        }
+
+        assertTrue(tiny.isRevoked("revoked-42"));
+        for (int i = 0; i < 100; i++) {
+            assertFalse(tiny.isRevoked("live-" + i));
+        }
+    }
+
+    private TokenService tokenService(Duration accessTtl) {
+        return new TokenService(new ObjectMapper(), revocationList, SECRET, accessTtl, Duration.ofDays(14));
+    }
+
+    private static void assertMessage(String expected, Runnable call) {
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class, call::run);
+        assertTrue(error.getMessage().contains(expected), error.getMessage());
+    }
+
+    private static AuthUser user() {
+        AuthUser user = new AuthUser();
+        user.setId(7L);
+        user.setEmail("ada@example.com");
+        return user;
+    }
+}
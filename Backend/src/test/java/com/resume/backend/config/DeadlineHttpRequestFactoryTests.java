@@ -0,0 +1,123 @@
+package com.resume.backend.config;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.protocol.HttpContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DeadlineHttpRequestFactoryTests {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ExecutorService handlers = Executors.newCachedThreadPool();
+    private final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1);
+    private HttpServer server;
+    private CloseableHttpClient httpClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        scheduler.setRemoveOnCancelPolicy(true);
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(handlers);
+        server.createContext("/fast", exchange -> respond(exchange, "ok"));
+        server.createContext("/slow", exchange -> {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, "late");
+        });
+        server.start();
+        // Socket reads alone would wait 10s for /slow; only the overall deadline can end it sooner.
+        httpClient = HttpClients.custom()
+                .setDefaultRequestConfig(RequestConfig.custom().setSocketTimeout(10_000).build())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        release.countDown();
+        httpClient.close();
+        server.stop(0);
+        handlers.shutdownNow();
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void abortsAnExchangeThatOutlivesTheDeadline() {
+        RestTemplate restTemplate = new RestTemplate(new DeadlineHttpRequestFactory(httpClient, scheduler, 300));
+
+        long started = System.nanoTime();
+        assertThrows(ResourceAccessException.class, () -> restTemplate.getForObject(url("/slow"), String.class));
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        assertTrue(elapsedMs < 5_000, elapsedMs + "ms");
+        assertEquals("ok", restTemplate.getForObject(url("/fast"), String.class));
+    }
+
+    @Test
+    void cancelsTheDeadlineOnceTheResponseIsClosed() {
+        RestTemplate restTemplate = new RestTemplate(new DeadlineHttpRequestFactory(httpClient, scheduler, 60_000));
+
+        assertEquals("ok", restTemplate.getForObject(url("/fast"), String.class));
+        assertEquals(0, scheduler.getQueue().size());
+    }
+
+    @Test
+    void deadlineScheduledForARequestThatFailedToBuildIsCancelledNotLeaked() throws IOException {
+        boolean[] failNext = {true};
+        DeadlineHttpRequestFactory factory = new DeadlineHttpRequestFactory(httpClient, scheduler, 60_000) {
+            @Override
+            protected HttpContext createHttpContext(HttpMethod httpMethod, URI uri) {
+                if (failNext[0]) {
+                    failNext[0] = false;
+                    throw new IllegalStateException("context unavailable");
+                }
+                return super.createHttpContext(httpMethod, uri);
+            }
+        };
+
+        assertThrows(IllegalStateException.class, () -> factory.createRequest(URI.create(url("/fast")), HttpMethod.GET));
+        assertEquals(0, scheduler.getQueue().size());
+
+        // The next request on this thread gets its own deadline, not the orphaned one.
+        assertEquals("ok", new RestTemplate(factory).getForObject(url("/fast"), String.class));
+        assertEquals(0, scheduler.getQueue().size());
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + server.getAddress().getPort() + path;
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.resume.backend.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class QueryMetricsListenerTests {
+
+    @Test
+    void timesEveryStatementAndCountsOnlySlowOnes() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        QueryMetricsListener listener = new QueryMetricsListener(() -> registry, Duration.ofMillis(50));
+
+        execute(listener, "select r.id from resumes r where r.user_email = ?", 0);
+        execute(listener, "  INSERT into resume_skills values (?, ?, ?)", 0);
+        execute(listener, "select * from resumes", 60);
+
+        assertEquals(2, registry.get("db.query").tag("operation", "select").timer().count());
+        assertEquals(1, registry.get("db.query").tag("operation", "insert").timer().count());
+        assertEquals(1.0, registry.get("db.query.slow").counter().count());
+    }
+
+    private static void execute(QueryMetricsListener listener, String sql, long sleepMs) {
+        ExecutionInfo execution = new ExecutionInfo();
+        execution.setSuccess(true);
+        List<QueryInfo> queries = List.of(new QueryInfo(sql));
+        listener.beforeQuery(execution, queries);
+        try {
+            Thread.sleep(sleepMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        listener.afterQuery(execution, queries);
+    }
+}
@@ -0,0 +1,54 @@
+package com.resume.backend.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.http.HttpHost;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.protocol.BasicHttpContext;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimedConnectionSocketFactoryTests {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final TimedConnectionSocketFactory factory =
+            new TimedConnectionSocketFactory(PlainConnectionSocketFactory.getSocketFactory(), () -> registry);
+
+    @Test
+    void recordsSuccessfulConnectPerHost() throws IOException {
+        try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            Socket socket = connect(server.getLocalPort());
+            try (socket) {
+                assertTrue(socket.isConnected());
+            }
+        }
+
+        assertEquals(1, registry.get("http.client.connect").tag("host", "localhost").tag("outcome", "success")
+                .timer().count());
+    }
+
+    @Test
+    void recordsFailedConnectAndRethrows() throws IOException {
+        int closedPort;
+        try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            closedPort = server.getLocalPort();
+        }
+
+        assertThrows(IOException.class, () -> connect(closedPort));
+        assertEquals(1, registry.get("http.client.connect").tag("outcome", "error").timer().count());
+    }
+
+    private Socket connect(int port) throws IOException {
+        BasicHttpContext context = new BasicHttpContext();
+        return factory.connectSocket(1000, factory.createSocket(context), new HttpHost("localhost", port),
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), port), null, context);
+    }
+}
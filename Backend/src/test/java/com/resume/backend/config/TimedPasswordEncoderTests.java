@@ -0,0 +1,35 @@
+package com.resume.backend.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimedPasswordEncoderTests {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final TimedPasswordEncoder encoder =
+            new TimedPasswordEncoder(new BCryptPasswordEncoder(4), () -> registry);
+
+    @Test
+    void timesEncodeAndMatchesSeparately() {
+        String hash = encoder.encode("secret");
+
+        assertTrue(encoder.matches("secret", hash));
+        assertFalse(encoder.matches("wrong", hash));
+        assertEquals(1, registry.get("auth.password.hash").tag("operation", "encode").timer().count());
+        assertEquals(2, registry.get("auth.password.hash").tag("operation", "matches").timer().count());
+    }
+
+    @Test
+    void upgradeEncodingDelegatesWithoutTiming() {
+        String weak = new BCryptPasswordEncoder(4).encode("secret");
+
+        assertTrue(new TimedPasswordEncoder(new BCryptPasswordEncoder(6), () -> registry).upgradeEncoding(weak));
+        assertFalse(encoder.upgradeEncoding(weak));
+        assertTrue(registry.find("auth.password.hash").timers().isEmpty());
+    }
+}
@@ -0,0 +1,167 @@
+package com.resume.backend.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resume.backend.auth.entity.AuthUser;
+import com.resume.backend.auth.repository.AuthUserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ResumeControllerSecurityTests {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AuthUserRepository authUserRepository;
+
+    @Test
+    void savedResumesNeedAValidTokenAndTheirOwner() throws Exception {
+        String ada = uniqueEmail("ada");
+        String eve = uniqueEmail("eve");
+        String adaToken = signup(ada).path("accessToken").asText();
+        String eveToken = signup(eve).path("accessToken").asText();
+
+        mvc.perform(get("/api/v1/resume/user/" + ada)).andExpect(status().isUnauthorized());
+        mvc.perform(get("/api/v1/resume/user/" + ada).header(HttpHeaders.AUTHORIZATION, "Bearer not-a-token"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.message").value("Malformed token"));
+        mvc.perform(get("/api/v1/resume/user/" + ada.toUpperCase()).header(HttpHeaders.AUTHORIZATION, bearer(adaToken)))
+                .andExpect(status().isOk());
+        mvc.perform(get("/api/v1/resume/user/" + ada).header(HttpHeaders.AUTHORIZATION, bearer(eveToken)))
+                .andExpect(status().isForbidden());
+
+        String saved = mvc.perform(post("/api/v1/resume/save").header(HttpHeaders.AUTHORIZATION, bearer(adaToken))
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"fullName\":\"Ada\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.userEmail").value(ada))
+                .andReturn().getResponse().getContentAsString();
+        long id = objectMapper.readTree(saved).path("id").asLong();
+
+        mvc.perform(post("/api/v1/resume/save").header(HttpHeaders.AUTHORIZATION, bearer(eveToken))
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"id\":" + id + ",\"fullName\":\"Eve\"}"))
+                .andExpect(status().isForbidden());
+        mvc.perform(get("/api/v1/resume/" + id).header(HttpHeaders.AUTHORIZATION, bearer(eveToken)))
+                .andExpect(status().isNotFound());
+        mvc.perform(delete("/api/v1/resume/" + id).header(HttpHeaders.AUTHORIZATION, bearer(eveToken)))
+                .andExpect(status().isNotFound());
+        mvc.perform(get("/api/v1/resume/" + id).header(HttpHeaders.AUTHORIZATION, bearer(adaToken)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void refreshTokenWorksOnceEvenUnderConcurrentUse() throws Exception {
+        String refreshToken = signup(uniqueEmail("bob")).path("refreshToken").asText();
+        String body = "{\"refreshToken\":\"" + refreshToken + "\"}";
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                Callable<Integer> refresh = () -> {
+                    start.await();
+                    return mvc.perform(post("/api/v1/auth/refresh")
+                                    .contentType(MediaType.APPLICATION_JSON).content(body))
+                            .andReturn().getResponse().getStatus();
+                };
+                results.add(pool.submit(refresh));
+            }
+            start.countDown();
+            int succeeded = 0;
+            for (Future<Integer> result : results) {
+                succeeded += result.get() == 200 ? 1 : 0;
+            }
+            assertEquals(1, succeeded);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void passwordResetAndLogoutRevokeRefreshTokens() throws Exception {
+        String email = uniqueEmail("cy");
+        String beforeReset = signup(email).path("refreshToken").asText();
+        JsonNode session = login(email, "secret-1");
+
+        AuthUser user = authUserRepository.findByEmailIgnoreCase(email).orElseThrow();
+        user.setResetCode("123456");
+        user.setResetCodeExpiry(LocalDateTime.now().plusMinutes(10));
+        authUserRepository.save(user);
+        mvc.perform(post("/api/v1/auth/reset-password").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + email + "\",\"code\":\"123456\",\"newPassword\":\"secret-2\"}"))
+                .andExpect(status().isOk());
+
+        refresh(beforeReset).andExpect(status().isUnauthorized());
+        refresh(session.path("refreshToken").asText()).andExpect(status().isUnauthorized());
+
+        JsonNode fresh = login(email, "secret-2");
+        mvc.perform(post("/api/v1/auth/logout").header(HttpHeaders.AUTHORIZATION, bearer(fresh.path("accessToken").asText()))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\":\"" + fresh.path("refreshToken").asText() + "\"}"))
+                .andExpect(status().isOk());
+        refresh(fresh.path("refreshToken").asText()).andExpect(status().isUnauthorized());
+        mvc.perform(get("/api/v1/resume/user/" + email).header(HttpHeaders.AUTHORIZATION,
+                        bearer(fresh.path("accessToken").asText())))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private ResultActions refresh(String refreshToken) throws Exception {
+        return mvc.perform(post("/api/v1/auth/refresh").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"refreshToken\":\"" + refreshToken + "\"}"));
+    }
+
+    private JsonNode signup(String email) throws Exception {
+        return json(mvc.perform(post("/api/v1/auth/signup").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Test\",\"email\":\"" + email + "\",\"password\":\"secret-1\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+    }
+
+    private JsonNode login(String email, String password) throws Exception {
+        return json(mvc.perform(post("/api/v1/auth/login").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+    }
+
+    private JsonNode json(String body) throws Exception {
+        return objectMapper.readTree(body);
+    }
+
+    private static String bearer(String token) {
+        return "Bearer " + token;
+    }
+
+    private static String uniqueEmail(String name) {
+        return name + "-" + UUID.randomUUID().toString().substring(0, 8) + "@example.com";
+    }
+}
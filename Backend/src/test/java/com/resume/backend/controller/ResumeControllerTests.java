@@ -0,0 +1,45 @@
+package com.resume.backend.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "app.groq.context-window=2048")
+@AutoConfigureMockMvc
+class ResumeControllerTests {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void inputTooLongForTheContextWindowIsABadRequest() throws Exception {
+        String description = "Senior Java engineer with Spring Boot, Kafka and MySQL experience. ".repeat(400);
+
+        mvc.perform(post("/api/v1/resume/generate").contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("userDescription", description))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", startsWith("Input is too long")));
+
+        List<String> skills = IntStream.range(0, 1000).mapToObj(i -> "Framework " + i).toList();
+        mvc.perform(post("/api/v1/interview/questions/skills").contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("skills", skills))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", startsWith("Input is too long")));
+    }
+}
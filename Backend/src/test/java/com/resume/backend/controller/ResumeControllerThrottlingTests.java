@@ -0,0 +1,51 @@
+package com.resume.backend.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resume.backend.llm.LlmThrottledException;
+import com.resume.backend.service.ResumeService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ResumeControllerThrottlingTests {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private ResumeService resumeService;
+
+    @Test
+    void throttledInterviewQuestionsAnswerWithTheStatusAndRetryAfter() throws Exception {
+        when(resumeService.generateInterviewQuestionsBySkills(anyList())).thenThrow(new LlmThrottledException(
+                "Groq request budget exhausted", HttpStatus.TOO_MANY_REQUESTS, Duration.ofSeconds(30), null));
+
+        mvc.perform(post("/api/v1/interview/questions/skills").contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("skills", List.of("Java", "Kafka")))))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "30"))
+                .andExpect(jsonPath("$.message").value("Groq request budget exhausted"));
+    }
+}
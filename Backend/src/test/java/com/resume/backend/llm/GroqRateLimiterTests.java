@@ -0,0 +1,93 @@
+package com.resume.backend.llm;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GroqRateLimiterTests {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void requestBucketRefillsOverTheMinute() {
+        GroqRateLimiter limiter = limiter(2, 100_000, 8);
+        limiter.acquire(10).succeeded();
+        limiter.acquire(10).succeeded();
+
+        LlmThrottledException error = assertThrows(LlmThrottledException.class, () -> limiter.acquire(10));
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, error.getStatus());
+        assertEquals(30, error.getRetryAfterSeconds());
+
+        advance(30);
+        limiter.acquire(10).succeeded();
+    }
+
+    @Test
+    void tokenBucketChargesTheEstimate() {
+        GroqRateLimiter limiter = limiter(100, 1000, 8);
+        limiter.acquire(800).succeeded();
+
+        assertThrows(LlmThrottledException.class, () -> limiter.acquire(800));
+        advance(36);
+        limiter.acquire(800).succeeded();
+    }
+
+    @Test
+    void concurrencyLimitGrowsOnSuccessAndShrinksOnThrottling() {
+        GroqRateLimiter limiter = limiter(1000, 1_000_000, 2);
+        GroqRateLimiter.Permit first = limiter.acquire(1);
+        GroqRateLimiter.Permit second = limiter.acquire(1);
+        LlmThrottledException full = assertThrows(LlmThrottledException.class, () -> limiter.acquire(1));
+        assertEquals(1, full.getRetryAfterSeconds());
+
+        first.succeeded();
+        assertEquals(2.5, limit(), 1e-9);
+        second.failed();
+        assertEquals(2.5, limit(), 1e-9);
+
+        limiter.acquire(1).throttled(Duration.ZERO);
+        assertEquals(1.75, limit(), 1e-9);
+    }
+
+    @Test
+    void slowCallsCountAsCongestion() {
+        GroqRateLimiter limiter = limiter(1000, 1_000_000, 4);
+        GroqRateLimiter.Permit permit = limiter.acquire(1);
+        advance(21);
+        permit.succeeded();
+
+        assertEquals(2.8, limit(), 1e-9);
+    }
+
+    @Test
+    void retryAfterPausesEveryCaller() {
+        GroqRateLimiter limiter = limiter(1000, 1_000_000, 4);
+        limiter.acquire(1).throttled(Duration.ofSeconds(10));
+
+        LlmThrottledException paused = assertThrows(LlmThrottledException.class, () -> limiter.acquire(1));
+        assertEquals(10, paused.getRetryAfterSeconds());
+        advance(10);
+        limiter.acquire(1).succeeded();
+    }
+
+    private GroqRateLimiter limiter(int requestsPerMinute, int tokensPerMinute, int initialLimit) {
+        return new GroqRateLimiter(registry, requestsPerMinute, tokensPerMinute, Duration.ZERO, initialLimit, 1, 32,
+                0.7, Duration.ofSeconds(20), clock::get);
+    }
+
+    private double limit() {
+        return registry.get("groq.concurrency.limit").gauge().value();
+    }
+
+    private void advance(long seconds) {
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(seconds));
+    }
+}
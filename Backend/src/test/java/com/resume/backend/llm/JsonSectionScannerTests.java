@@ -0,0 +1,38 @@
+package com.resume.backend.llm;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JsonSectionScannerTests {
+
+    private static final String COMPLETION = "Here you go:\n```json\n{\"meta\": \"Resume generated\", \"data\": {"
+            + "\"personalInformation\": {\"fullName\": \"Ada {Lovelace}\", \"linkedIn\": null},"
+            + "\"summary\": \"Builds \\\"fast\\\", correct systems\","
+            + "\"skills\": [{\"title\": \"Java\", \"level\": \"Expert\"}],"
+            + "\"interests\": []}}\n```";
+
+    @Test
+    void reportsEachSectionOnceItsValueIsComplete() {
+        Map<String, String> sections = new LinkedHashMap<>();
+        JsonSectionScanner scanner = new JsonSectionScanner(2, sections::put);
+
+        for (int i = 0; i < COMPLETION.length(); i += 7) {
+            scanner.feed(COMPLETION.substring(i, Math.min(COMPLETION.length(), i + 7)));
+            if (COMPLETION.substring(0, Math.min(COMPLETION.length(), i + 7)).contains("\"skills\"")) {
+                assertTrue(sections.containsKey("summary"));
+            }
+        }
+
+        assertEquals("{\"fullName\": \"Ada {Lovelace}\", \"linkedIn\": null}", sections.get("personalInformation"));
+        assertEquals("\"Builds \\\"fast\\\", correct systems\"", sections.get("summary"));
+        assertEquals("[{\"title\": \"Java\", \"level\": \"Expert\"}]", sections.get("skills"));
+        assertEquals("[]", sections.get("interests"));
+        assertEquals(4, sections.size());
+        assertTrue(scanner.isComplete());
+    }
+}
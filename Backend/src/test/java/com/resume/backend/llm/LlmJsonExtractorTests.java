@@ -0,0 +1,91 @@
+package com.resume.backend.llm;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resume.backend.dto.GeneratedResume;
+import com.resume.backend.dto.InterviewQuestionSet;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LlmJsonExtractorTests {
+
+    private final LlmJsonExtractor extractor = new LlmJsonExtractor(new ObjectMapper());
+
+    @Test
+    void skipsProseAndFencesAroundTheFirstObject() {
+        String completion = "Sure! Here is the {requested} resume:\n```json\n"
+                + "{\"meta\": \"Resume generated\", \"data\": {"
+                + "\"personalInformation\": {\"fullName\": \"Ada\", \"linkedin\": \"in/ada\"},"
+                + "\"skills\": [{\"title\": \"Java\", \"level\": \"Expert\"}],"
+                + "\"projects\": [{\"title\": \"Engine\", \"technologiesUsed\": \"Rust\"}],"
+                + "\"rating\": 10}}\n```\nLet me know if you need changes.";
+
+        GeneratedResume resume = extractor.extract(completion, GeneratedResume.class);
+
+        assertEquals("Resume generated", resume.meta());
+        assertEquals("in/ada", resume.data().personalInformation().linkedIn());
+        assertEquals("Java", resume.data().skills().get(0).title());
+        assertEquals("Rust", resume.data().projects().get(0).technologiesUsed().get(0));
+        assertTrue(resume.data().experience().isEmpty());
+    }
+
+    @Test
+    void readsLanguagesAndInterestsGivenAsPlainStrings() {
+        String completion = "{\"meta\": \"Resume generated\", \"data\": {"
+                + "\"languages\": [\"English\", {\"id\": 2, \"name\": \"French\"}],"
+                + "\"interests\": [\"Chess\"]}}";
+
+        GeneratedResume resume = extractor.extract(completion, GeneratedResume.class);
+
+        assertEquals(new GeneratedResume.NamedItem(null, "English"), resume.data().languages().get(0));
+        assertEquals(new GeneratedResume.NamedItem(2, "French"), resume.data().languages().get(1));
+        assertEquals("Chess", resume.data().interests().get(0).name());
+    }
+
+    @Test
+    void readsSkillsGivenAsPlainStrings() {
+        String completion = "{\"meta\": \"Resume generated\", \"data\": {"
+                + "\"skills\": [\"Kotlin\", {\"title\": \"Java\", \"level\": \"Expert\"}]}}";
+
+        GeneratedResume resume = extractor.extract(completion, GeneratedResume.class);
+
+        assertEquals(new GeneratedResume.Skill("Kotlin", null), resume.data().skills().get(0));
+        assertEquals(new GeneratedResume.Skill("Java", "Expert"), resume.data().skills().get(1));
+    }
+
+    @Test
+    void readsResponsibilityGivenAsStringOrList() {
+        String completion = "{\"meta\": \"Resume generated\", \"data\": {\"experience\": ["
+                + "{\"jobTitle\": \"Engineer\", \"responsibility\": \"Built the API\"},"
+                + "{\"jobTitle\": \"Lead\", \"responsibility\": [\"Ran the team\", \"Owned releases\"]}]}}";
+
+        GeneratedResume resume = extractor.extract(completion, GeneratedResume.class);
+
+        assertEquals("Built the API", resume.data().experience().get(0).responsibility());
+        assertEquals("Engineer", resume.data().experience().get(0).jobTitle());
+        assertEquals("Ran the team\nOwned releases", resume.data().experience().get(1).responsibility());
+    }
+
+    @Test
+    void reportsWhereATruncatedCompletionStopped() {
+        String completion = "{\"meta\": \"Interview prep generated\", \"questions\": ["
+                + "{\"question\": \"What is a thread?\", \"answer\": \"An execution";
+
+        LlmOutputException error = assertThrows(LlmOutputException.class,
+                () -> extractor.extract(completion, InterviewQuestionSet.class));
+
+        assertTrue(error.isTruncated());
+        assertEquals("/questions/0/answer", error.getPath());
+        assertTrue(error.getMessage().contains("ended inside JSON"));
+    }
+
+    @Test
+    void rejectsCompletionWithoutJson() {
+        LlmOutputException error = assertThrows(LlmOutputException.class,
+                () -> extractor.extract("I cannot help with that.", InterviewQuestionSet.class));
+
+        assertTrue(error.getMessage().contains("no JSON object"));
+    }
+}
@@ -0,0 +1,128 @@
+package com.resume.backend.llm;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resume.backend.dto.GeneratedResume;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LlmResponseCacheTests {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void keyIgnoresWhitespaceButNotTheSettingsThatShapeTheCompletion() {
+        LlmResponseCache cache = cache(100, Duration.ofHours(1), "");
+        String key = cache.key("llama", "resume@v2", "Java  developer\n\twith Spring ", 0.7, 1024);
+
+        assertEquals(key, cache.key("llama", "resume@v2", " Java developer with Spring", 0.7, 1024));
+        assertNotEquals(key, cache.key("llama", "resume@v2", "Java developerwith Spring", 0.7, 1024));
+        assertNotEquals(key, cache.key("llama", "resume@v2", "java developer with spring", 0.7, 1024));
+        assertNotEquals(key, cache.key("llama", "resume@v2", "Java developer with Spring", 0.2, 1024));
+        assertNotEquals(key, cache.key("llama", "resume@v2", "Java developer with Spring", 0.7, 2048));
+        assertNotEquals(key, cache.key("llama", "resume@v3", "Java developer with Spring", 0.7, 1024));
+        assertNotEquals(key, cache.key("mixtral", "resume@v2", "Java developer with Spring", 0.7, 1024));
+    }
+
+    @Test
+    void entriesExpireAfterTheTtl() {
+        LlmResponseCache cache = cache(100, Duration.ofMinutes(10), "");
+        cache.put("k", resume("Ada"));
+
+        clock.addAndGet(Duration.ofMinutes(10).minusNanos(1).toNanos());
+        assertNotNull(cache.get("k", GeneratedResume.class));
+
+        clock.addAndGet(1);
+        assertNull(cache.get("k", GeneratedResume.class));
+    }
+
+    @Test
+    void memoryTierStaysWithinMaxEntries() {
+        LlmResponseCache cache = cache(3, Duration.ofHours(1), "");
+        for (int i = 0; i < 50; i++) {
+            cache.put("k" + i, resume("User " + i));
+        }
+
+        long size = cache.size();
+        assertTrue(size <= 3, String.valueOf(size));
+    }
+
+    @Test
+    void everyHitIsAnIndependentCopy() {
+        LlmResponseCache cache = cache(100, Duration.ofHours(1), "");
+        GeneratedResume stored = resume("Ada");
+        cache.put("k", stored);
+        stored.data().skills().clear();
+
+        GeneratedResume first = cache.get("k", GeneratedResume.class);
+        first.data().skills().clear();
+        GeneratedResume second = cache.get("k", GeneratedResume.class);
+
+        assertNotSame(first, second);
+        assertEquals(1, second.data().skills().size());
+        assertEquals("Ada", second.data().personalInformation().fullName());
+        assertNull(cache.get("k", QuestionList.class));
+    }
+
+    @Test
+    void diskTierServesEntriesAfterARestart(@TempDir Path dir) {
+        cache(100, Duration.ofHours(1), dir.toString()).put("k", resume("Ada"));
+
+        GeneratedResume restored = cache(100, Duration.ofHours(1), dir.toString()).get("k", GeneratedResume.class);
+
+        assertEquals("Ada", restored.data().personalInformation().fullName());
+    }
+
+    @Test
+    void diskTierStaysWithinDiskMaxEntriesWhileRunning(@TempDir Path dir) throws IOException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        LlmResponseCache cache = new LlmResponseCache(new ObjectMapper(), registry, 100, Duration.ofHours(1),
+                dir.toString(), 3, clock::get, Runnable::run);
+        for (int i = 0; i < 20; i++) {
+            cache.put("k" + i, resume("User " + i));
+        }
+
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals(3, files.count());
+        }
+        assertEquals(3, cache.diskSize());
+        assertEquals(17, registry.counter("llm.responses.disk.evictions").count());
+        LlmResponseCache restarted = cache(100, Duration.ofHours(1), dir.toString());
+        assertNull(restarted.get("k16", GeneratedResume.class));
+        assertEquals("User 19", restarted.get("k19", GeneratedResume.class).data().personalInformation().fullName());
+    }
+
+    private LlmResponseCache cache(long maxEntries, Duration ttl, String diskDir) {
+        return new LlmResponseCache(new ObjectMapper(), new SimpleMeterRegistry(), maxEntries, ttl, diskDir, 100,
+                clock::get, Runnable::run);
+    }
+
+    private static GeneratedResume resume(String name) {
+        List<GeneratedResume.Skill> skills = new ArrayList<>();
+        skills.add(new GeneratedResume.Skill("Java", "Expert"));
+        GeneratedResume.PersonalInformation person =
+                new GeneratedResume.PersonalInformation(name, null, null, null, null, null, null);
+        return new GeneratedResume("generated", new GeneratedResume.ResumeData(person, "Summary", skills,
+                null, null, null, null, null, null, null));
+    }
+
+    // Binding requires a field the resume JSON does not have.
+    record QuestionList(@JsonProperty(required = true) List<String> questions) {}
+}
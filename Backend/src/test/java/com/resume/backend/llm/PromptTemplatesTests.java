@@ -0,0 +1,57 @@
+package com.resume.backend.llm;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PromptTemplatesTests {
+
+    @Test
+    void rendersPlaceholdersAndEstimatesTokens() {
+        PromptTemplate template = PromptTemplate.compile("greeting.v1", "Hello {{ name }}, you know {{skills}}.");
+
+        RenderedPrompt prompt = template.render(Map.of("name", "Ada", "skills", "java, sql"));
+
+        assertEquals(List.of("name", "skills"), template.variables());
+        assertEquals("Hello Ada, you know java, sql.", prompt.text());
+        assertEquals("greeting.v1", prompt.templateId());
+        assertEquals(8, prompt.estimatedTokens());
+        assertThrows(IllegalStateException.class, () -> template.render(Map.of("name", "Ada")));
+        assertThrows(IllegalStateException.class, () -> PromptTemplate.compile("broken.v1", "Hi {{name"));
+    }
+
+    @Test
+    void loadsBundledTemplates() {
+        PromptTemplates templates = new PromptTemplates("classpath:prompts/", false, Duration.ZERO);
+
+        RenderedPrompt resume = templates.render("resume.v1", Map.of("userDescription", "Java developer"));
+        RenderedPrompt interview = templates.render("interview.v1", Map.of("skills", "java"));
+
+        assertTrue(resume.text().endsWith("User Description: Java developer"));
+        assertTrue(interview.text().contains("tailored to these skills: java."));
+        assertThrows(IllegalStateException.class, () -> templates.get("resume.v0"));
+    }
+
+    @Test
+    void reloadsEditedTemplates(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("note.v1.txt");
+        Files.writeString(file, "First {{x}}");
+        PromptTemplates templates = new PromptTemplates(dir.toUri().toString(), true, Duration.ZERO);
+        assertEquals("First 1", templates.render("note.v1", Map.of("x", "1")).text());
+
+        Files.writeString(file, "Second {{x}}");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 5_000));
+
+        assertEquals("Second 1", templates.render("note.v1", Map.of("x", "1")).text());
+    }
+}
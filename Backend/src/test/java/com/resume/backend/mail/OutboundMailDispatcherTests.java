@@ -0,0 +1,162 @@
+package com.resume.backend.mail;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.resume.backend.auth.entity.AuthUser;
+import com.resume.backend.auth.repository.AuthUserRepository;
+import com.resume.backend.auth.repository.RefreshTokenRepository;
+import com.resume.backend.auth.service.AuthService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.mail.internet.MimeMessage;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "spring.mail.host=localhost",
+        "spring.mail.port=3025",
+        "app.mail.dispatch.initial-delay-ms=3600000",
+        "app.mail.per-recipient.max=2"
+})
+class OutboundMailDispatcherTests {
+
+    private static final String EMAIL = "ada@example.com";
+
+    @RegisterExtension
+    static GreenMailExtension smtp = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private AuthUserRepository authUserRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private OutboundMailRepository outboundMailRepository;
+
+    @Autowired
+    private OutboundMailQueue outboundMailQueue;
+
+    @Autowired
+    private OutboundMailDispatcher dispatcher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        outboundMailRepository.deleteAll();
+        refreshTokenRepository.deleteAll();
+        authUserRepository.deleteAll();
+        AuthUser user = new AuthUser();
+        user.setName("Ada");
+        user.setEmail(EMAIL);
+        user.setProvider("local");
+        authUserRepository.save(user);
+    }
+
+    @Test
+    void forgotPasswordOnlyQueuesAndTheDispatcherDeliversTheLatestCode() throws Exception {
+        authService.forgotPassword(EMAIL);
+        String code = (String) authService.forgotPassword(EMAIL).get("debugResetCode");
+
+        assertEquals(0, smtp.getReceivedMessages().length);
+        assertEquals(1, outboundMailRepository.count());
+
+        assertEquals(1, dispatcher.dispatch());
+
+        MimeMessage[] received = smtp.getReceivedMessages();
+        assertEquals(1, received.length);
+        assertTrue(GreenMailUtil.getBody(received[0]).contains(code));
+        OutboundMail sent = outboundMailRepository.findAll().get(0);
+        assertEquals(OutboundMail.SENT, sent.getStatus());
+        assertEquals("", sent.getBody());
+        assertEquals(0, dispatcher.dispatch());
+    }
+
+    @Test
+    void mailPastItsExpiryIsDroppedInsteadOfSentOrRetried() {
+        outboundMailQueue.enqueue("reset-code", EMAIL, "Code", "Your code is 123456",
+                LocalDateTime.now().minusSeconds(1));
+
+        assertEquals(1, dispatcher.dispatch());
+
+        assertEquals(0, smtp.getReceivedMessages().length);
+        OutboundMail dropped = outboundMailRepository.findAll().get(0);
+        assertEquals(OutboundMail.FAILED, dropped.getStatus());
+        assertEquals("", dropped.getBody());
+
+        smtp.stop();
+        // The first backoff is at least 5s, past this message's expiry: no retry is scheduled.
+        outboundMailQueue.enqueue("reset-code", "bob@example.com", "Code", "Your code is 654321",
+                LocalDateTime.now().plusSeconds(5));
+
+        assertEquals(1, dispatcher.dispatch());
+
+        OutboundMail failed = outboundMailRepository.findAll().stream()
+                .filter(mail -> mail.getRecipient().equals("bob@example.com"))
+                .findFirst().orElseThrow();
+        assertEquals(OutboundMail.FAILED, failed.getStatus());
+        assertEquals(1, failed.getAttempts());
+    }
+
+    @Test
+    void finishedMailIsPurgedAfterTheRetentionPeriod() {
+        outboundMailQueue.enqueue("notice", EMAIL, "Notice", "Body");
+        assertEquals(1, dispatcher.dispatch());
+        outboundMailQueue.enqueue("notice", "bob@example.com", "Later", "Body");
+        jdbcTemplate.update("update outbound_mail set created_at = ?", LocalDateTime.now().minusDays(2));
+
+        dispatcher.purgeFinished();
+
+        List<OutboundMail> left = outboundMailRepository.findAll();
+        assertEquals(1, left.size());
+        assertEquals(OutboundMail.PENDING, left.get(0).getStatus());
+    }
+
+    @Test
+    void batchIsSentOnceAndExtraMailToOneRecipientIsDeferred() {
+        for (int i = 0; i < 3; i++) {
+            outboundMailQueue.enqueue("notice", EMAIL, "Notice " + i, "Body " + i);
+        }
+        outboundMailQueue.enqueue("notice", "bob@example.com", "Notice", "Body");
+
+        assertEquals(4, dispatcher.dispatch());
+
+        assertEquals(3, smtp.getReceivedMessages().length);
+        List<OutboundMail> pending = outboundMailRepository.findAll().stream()
+                .filter(mail -> OutboundMail.PENDING.equals(mail.getStatus()))
+                .toList();
+        assertEquals(1, pending.size());
+        assertEquals(EMAIL, pending.get(0).getRecipient());
+        assertTrue(pending.get(0).getNextAttemptAt().isAfter(LocalDateTime.now()));
+    }
+
+    @Test
+    void failedDeliveryIsRescheduledWithBackoff() {
+        smtp.stop();
+        outboundMailQueue.enqueue("notice", EMAIL, "Notice", "Body");
+
+        assertEquals(1, dispatcher.dispatch());
+
+        OutboundMail mail = outboundMailRepository.findAll().get(0);
+        assertEquals(OutboundMail.PENDING, mail.getStatus());
+        assertEquals(1, mail.getAttempts());
+        assertNotNull(mail.getLastError());
+        assertTrue(mail.getNextAttemptAt().isAfter(LocalDateTime.now()));
+        assertEquals(0, dispatcher.dispatch());
+    }
+}
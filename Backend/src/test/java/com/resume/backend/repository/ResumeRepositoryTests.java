@@ -0,0 +1,118 @@
+package com.resume.backend.repository;
+
+import com.resume.backend.entity.Resume;
+import com.resume.backend.entity.ResumeExperience;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+class ResumeRepositoryTests {
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void sectionsRoundTripInOrderWithoutTheOldTenSkillCap() {
+        List<String> skills = IntStream.rangeClosed(1, 14).mapToObj(i -> "Skill " + i).collect(Collectors.toList());
+        Resume resume = new Resume();
+        resume.setUserEmail("dev@example.com");
+        resume.setSkills(new ArrayList<>(skills));
+        resume.setExperience(List.of(experience("Acme"), experience("Globex"), experience("Initech")));
+        resume.setProjects(new ArrayList<>(List.of("Resume builder", "Log shipper")));
+
+        Long id = resumeRepository.save(resume).getId();
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Resume> loaded = resumeRepository.findByUserEmailOrderByCreatedAtDesc("dev@example.com");
+        assertEquals(1, loaded.size());
+        Resume reloaded = loaded.get(0);
+        assertEquals(id, reloaded.getId());
+        assertEquals(skills, reloaded.getSkills());
+        assertEquals(List.of("Acme", "Globex", "Initech"),
+                reloaded.getExperience().stream().map(ResumeExperience::getCompany).collect(Collectors.toList()));
+        assertEquals(List.of("Resume builder", "Log shipper"), reloaded.getProjects());
+        assertEquals(0, reloaded.getEducation().size());
+    }
+
+    @Test
+    void keysetPagesWalkNewestFirstAcrossCreatedAtTies() {
+        LocalDateTime base = LocalDateTime.of(2024, 5, 1, 9, 0);
+        for (int i = 0; i < 5; i++) {
+            Resume resume = new Resume();
+            resume.setUserEmail("pager@example.com");
+            resume.setFullName("Resume " + i);
+            resume.setCreatedAt(i < 2 ? base : base.plusMinutes(i));
+            resumeRepository.save(resume);
+        }
+        Resume other = new Resume();
+        other.setUserEmail("someone-else@example.com");
+        resumeRepository.save(other);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<String> seen = new ArrayList<>();
+        List<ResumeSummary> page = resumeRepository.findByUserEmailOrderByCreatedAtDescIdDesc(
+                "pager@example.com", PageRequest.of(0, 2));
+        while (!page.isEmpty()) {
+            page.forEach(summary -> seen.add(summary.getFullName()));
+            ResumeSummary last = page.get(page.size() - 1);
+            page = resumeRepository.findSummariesAfter(
+                    "pager@example.com", last.getCreatedAt(), last.getId(), PageRequest.of(0, 2));
+        }
+
+        assertEquals(List.of("Resume 4", "Resume 3", "Resume 2", "Resume 1", "Resume 0"), seen);
+    }
+
+    @Test
+    void bulkDeleteRemovesResumesAndTheirSectionRows() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Resume resume = new Resume();
+            resume.setUserEmail("bulk@example.com");
+            resume.setSkills(new ArrayList<>(List.of("Java", "SQL")));
+            resume.setExperience(new ArrayList<>(List.of(experience("Acme"))));
+            ids.add(resumeRepository.save(resume).getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Long> doomed = ids.subList(0, 2);
+        assertEquals(List.of("bulk@example.com"), resumeRepository.findOwnerEmails(doomed));
+        assertEquals(4, resumeRepository.deleteSkillsByResumeIds(doomed));
+        assertEquals(2, resumeRepository.deleteExperienceByResumeIds(doomed));
+        resumeRepository.deleteEducationByResumeIds(doomed);
+        resumeRepository.deleteProjectsByResumeIds(doomed);
+        assertEquals(2, resumeRepository.deleteByIdIn(doomed));
+        entityManager.clear();
+
+        try (Stream<Resume> remaining = resumeRepository.streamByUserEmail("bulk@example.com")) {
+            List<Resume> left = remaining.collect(Collectors.toList());
+            assertEquals(1, left.size());
+            assertEquals(ids.get(2), left.get(0).getId());
+            assertEquals(List.of("Java", "SQL"), left.get(0).getSkills());
+        }
+    }
+
+    private static ResumeExperience experience(String company) {
+        ResumeExperience experience = new ResumeExperience();
+        experience.setCompany(company);
+        experience.setPosition("Engineer");
+        return experience;
+    }
+}
@@ -0,0 +1,59 @@
+package com.resume.backend.repository;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the real Flyway migrations, on H2 in MySQL mode, and lets Hibernate validate the entity mapping
+ * against the result with the production dialect, as production does (ddl-auto=validate).
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:migrated;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.database-platform=org.hibernate.dialect.MySQLDialect"
+})
+class SchemaMigrationTests {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Test
+    void entityMappingValidatesAgainstMigratedSchema() {
+        MigrationInfo[] applied = flyway.info().applied();
+        assertTrue(applied.length > 0);
+        assertEquals(flyway.info().current().getVersion(), applied[applied.length - 1].getVersion());
+        assertEquals(0, flyway.info().pending().length);
+    }
+
+    @Test
+    void sectionMigrationCopiesLegacyColumnsAndKeepsThem() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:legacy;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        Flyway.configure().dataSource(dataSource).target("1").load().migrate();
+        jdbc.update("INSERT INTO resumes (user_email, full_name, skill_1, skill_3, company_1, position_1, project_2) "
+                + "VALUES ('ada@example.com', 'Ada', 'Java', 'SQL', 'Acme', 'Engineer', 'Compiler')");
+
+        Flyway.configure().dataSource(dataSource).load().migrate();
+
+        List<String> skills = jdbc.queryForList(
+                "SELECT name FROM resume_skills ORDER BY skill_order", String.class);
+        assertEquals(Arrays.asList("Java", "SQL"), skills);
+        assertEquals("Engineer", jdbc.queryForObject("SELECT job_title FROM resumes", String.class));
+        assertEquals(1, jdbc.queryForObject("SELECT COUNT(*) FROM resume_projects WHERE item_order = 0", Integer.class));
+        // The legacy columns are still there for a rollback.
+        assertEquals("Java", jdbc.queryForObject("SELECT skill_1 FROM resumes", String.class));
+    }
+}
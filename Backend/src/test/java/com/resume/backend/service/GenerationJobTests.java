@@ -0,0 +1,57 @@
+package com.resume.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GenerationJobTests {
+
+    @Test
+    void pollArrivingAsTheJobFinishesSeesTheResult() {
+        GenerationJob job = new GenerationJob("resume");
+        job.markRunning();
+        AtomicReference<Map<String, Object>> polled = new AtomicReference<>();
+        // The long-poll endpoint answers from this callback, i.e. in the middle of succeed().
+        job.getResult().whenComplete((result, error) -> polled.set(job.toResponse()));
+
+        job.succeed(Map.of("meta", "done"));
+
+        assertEquals("SUCCEEDED", polled.get().get("status"));
+        assertEquals(Map.of("meta", "done"), polled.get().get("result"));
+        assertNotNull(polled.get().get("completedAt"));
+        assertEquals(job.toResponse().get("result"), polled.get().get("result"));
+    }
+
+    @Test
+    void pollArrivingAsTheJobFailsSeesTheError() {
+        GenerationJob job = new GenerationJob("resume");
+        AtomicReference<Map<String, Object>> polled = new AtomicReference<>();
+        job.getResult().whenComplete((result, error) -> polled.set(job.toResponse()));
+
+        job.fail("Generation failed: boom");
+
+        assertEquals("FAILED", polled.get().get("status"));
+        assertEquals("Generation failed: boom", polled.get().get("error"));
+        assertFalse(polled.get().containsKey("result"));
+        assertTrue(job.isDone());
+    }
+
+    @Test
+    void runningJobReportsNoOutcome() {
+        GenerationJob job = new GenerationJob("resume");
+        job.markRunning();
+
+        Map<String, Object> response = job.toResponse();
+
+        assertEquals("RUNNING", response.get("status"));
+        assertFalse(response.containsKey("result"));
+        assertFalse(response.containsKey("completedAt"));
+        assertFalse(job.isDone());
+    }
+}
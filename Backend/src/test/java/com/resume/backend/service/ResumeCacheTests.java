@@ -0,0 +1,89 @@
+package com.resume.backend.service;
+
+import com.resume.backend.entity.Resume;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ResumeCacheTests {
+
+    private final ResumeCache cache = new ResumeCache(
+            new SimpleMeterRegistry(), DataSize.ofMegabytes(1), DataSize.ofMegabytes(1), Duration.ofMinutes(5));
+
+    @Test
+    void repeatReadsSkipTheLoaderUntilEvicted() {
+        AtomicInteger loads = new AtomicInteger();
+        Resume resume = new Resume();
+        resume.setId(7L);
+
+        assertSame(resume, cache.getById(7L, id -> { loads.incrementAndGet(); return resume; }));
+        assertSame(resume, cache.getById(7L, id -> { loads.incrementAndGet(); return resume; }));
+        assertEquals(1, loads.get());
+
+        cache.evict(7L);
+        cache.getById(7L, id -> { loads.incrementAndGet(); return resume; });
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void evictionDropsEveryPageOfThatOwnerOnly() {
+        AtomicInteger loads = new AtomicInteger();
+        Map<String, Object> page = Map.of("items", List.of());
+
+        cache.getPage("a@example.com", null, 20, key -> { loads.incrementAndGet(); return page; });
+        cache.getPage("a@example.com", "cursor", 20, key -> { loads.incrementAndGet(); return page; });
+        cache.getPage("b@example.com", null, 20, key -> { loads.incrementAndGet(); return page; });
+        assertEquals(3, loads.get());
+
+        cache.evict(null, "a@example.com");
+        cache.getPage("a@example.com", null, 20, key -> { loads.incrementAndGet(); return page; });
+        cache.getPage("a@example.com", "cursor", 20, key -> { loads.incrementAndGet(); return page; });
+        cache.getPage("b@example.com", null, 20, key -> { loads.incrementAndGet(); return page; });
+        assertEquals(5, loads.get());
+    }
+
+    @Test
+    void loadOverlappingAnEvictionIsNotKept() {
+        AtomicInteger loads = new AtomicInteger();
+        Resume stale = new Resume();
+        stale.setId(7L);
+
+        // The write commits (and evicts) while this read is still loading the old row.
+        assertSame(stale, cache.getById(7L, id -> {
+            loads.incrementAndGet();
+            cache.evict(7L, "a@example.com");
+            return stale;
+        }));
+        cache.getPage("a@example.com", null, 20, key -> {
+            loads.incrementAndGet();
+            cache.evict(null, "a@example.com");
+            return Map.of("items", List.of());
+        });
+
+        cache.getById(7L, id -> { loads.incrementAndGet(); return stale; });
+        cache.getPage("a@example.com", null, 20, key -> { loads.incrementAndGet(); return Map.of(); });
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void pagesAreKeyedAndEvictedByCaseInsensitiveOwner() {
+        AtomicInteger loads = new AtomicInteger();
+        Map<String, Object> page = Map.of("items", List.of());
+
+        cache.getPage("Ada@Example.com", null, 20, key -> { loads.incrementAndGet(); return page; });
+        cache.getPage("ada@example.com", null, 20, key -> { loads.incrementAndGet(); return page; });
+        assertEquals(1, loads.get());
+
+        cache.evict(null, " ADA@example.com");
+        cache.getPage("ada@example.com", null, 20, key -> { loads.incrementAndGet(); return page; });
+        assertEquals(2, loads.get());
+    }
+}
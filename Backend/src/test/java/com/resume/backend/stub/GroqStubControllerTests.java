@@ -0,0 +1,81 @@
+package com.resume.backend.stub;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class GroqStubControllerTests {
+
+    private static final String INTERVIEW_REQUEST =
+            "{\"model\":\"m\",\"messages\":[{\"role\":\"user\",\"content\":\"Return { \\\"questions\\\": [] }\"}]}";
+    private static final String RESUME_REQUEST =
+            "{\"model\":\"m\",\"stream\":true,\"messages\":[{\"role\":\"user\",\"content\":\"Create a resume\"}]}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void answersWithCannedCompletion() throws Exception {
+        MockMvc mvc = stub(0.0);
+
+        JsonNode body = objectMapper.readTree(complete(mvc, INTERVIEW_REQUEST).getResponse().getContentAsString());
+
+        assertEquals("chat.completion", body.path("object").asText());
+        String content = body.path("choices").path(0).path("message").path("content").asText();
+        assertEquals(10, objectMapper.readTree(content).path("questions").size());
+        assertTrue(body.path("usage").path("completion_tokens").asInt() > 0);
+    }
+
+    @Test
+    void streamsChunksThatReassembleThePayload() throws Exception {
+        MockMvc mvc = stub(0.0);
+
+        String events = complete(mvc, RESUME_REQUEST).getResponse().getContentAsString();
+
+        StringBuilder content = new StringBuilder();
+        for (String line : events.split("\n")) {
+            if (line.startsWith("data: {")) {
+                content.append(objectMapper.readTree(line.substring(6))
+                        .path("choices").path(0).path("delta").path("content").asText(""));
+            }
+        }
+        assertTrue(events.trim().endsWith("data: [DONE]"));
+        assertEquals("Priya Sharma",
+                objectMapper.readTree(content.toString()).path("data").path("personalInformation").path("fullName").asText());
+    }
+
+    @Test
+    void injectsThrottlingWithRetryAfter() throws Exception {
+        MockMvc mvc = stub(1.0);
+
+        mvc.perform(post("/openai/v1/chat/completions").contentType(MediaType.APPLICATION_JSON).content(RESUME_REQUEST))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "1.0"));
+    }
+
+    private MockMvc stub(double throttleRate) {
+        GroqStubController controller = new GroqStubController(objectMapper, Duration.ofMillis(1), Duration.ofMillis(2),
+                1_000_000, 64, 0.0, throttleRate, Duration.ofSeconds(1), 7L, 1);
+        return MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    private MvcResult complete(MockMvc mvc, String request) throws Exception {
+        MvcResult result = mvc.perform(post("/openai/v1/chat/completions")
+                        .contentType(MediaType.APPLICATION_JSON).content(request))
+                .andExpect(status().isOk())
+                .andReturn();
+        result.getAsyncResult(5_000);
+        return result;
+    }
+}
@@ -9,6 +9,26 @@ const authApi = axios.create({
   baseURL,
 });
 
+const TOKENS_KEY = "authTokens";
+
+// Access and refresh tokens issued by the backend; the access token goes out as a Bearer header.
+export const getTokens = () => {
+  try {
+    const raw = localStorage.getItem(TOKENS_KEY);
+    return raw ? JSON.parse(raw) : null;
+  } catch {
+    return null;
+  }
+};
+
+export const saveTokens = ({ accessToken, refreshToken }) => {
+  localStorage.setItem(TOKENS_KEY, JSON.stringify({ accessToken, refreshToken }));
+};
+
+export const clearTokens = () => {
+  localStorage.removeItem(TOKENS_KEY);
+};
+
 const normalizeError = (error, fallback) => {
   return (
     error?.response?.data?.message ||
@@ -65,3 +85,38 @@ export const authGoogle = async ({ idToken }) => {
     throw new Error(normalizeError(error, "Google login failed"));
   }
 };
+
+// Trades the stored refresh token for a new pair; concurrent callers share one request.
+let refreshing = null;
+export const authRefresh = () => {
+  if (!refreshing) {
+    const refreshToken = getTokens()?.refreshToken;
+    refreshing = (refreshToken
+      ? authApi.post("/api/v1/auth/refresh", { refreshToken }).then((response) => {
+          saveTokens(response.data);
+          return response.data.accessToken;
+        })
+      : Promise.reject(new Error("Not signed in"))
+    ).finally(() => {
+      refreshing = null;
+    });
+  }
+  return refreshing;
+};
+
+export const authLogout = async () => {
+  const tokens = getTokens();
+  clearTokens();
+  if (!tokens) {
+    return;
+  }
+  try {
+    await authApi.post(
+      "/api/v1/auth/logout",
+      { refreshToken: tokens.refreshToken },
+      { headers: { Authorization: `Bearer ${tokens.accessToken}` } }
+    );
+  } catch {
+    // The tokens are gone locally either way.
+  }
+};
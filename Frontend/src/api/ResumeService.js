@@ -1,4 +1,5 @@
 import axios from "axios";
+import { authRefresh, clearTokens, getTokens } from "./AuthService";
 
 const isProduction = import.meta.env.PROD;
 export const baseURLL = isProduction
@@ -9,6 +10,35 @@ export const axiosInstance = axios.create({
   baseURL: baseURLL,
 });
 
+axiosInstance.interceptors.request.use((config) => {
+  const accessToken = getTokens()?.accessToken;
+  if (accessToken) {
+    config.headers.Authorization = `Bearer ${accessToken}`;
+  }
+  return config;
+});
+
+// An expired access token is refreshed once and the request replayed; if that fails the session is over.
+axiosInstance.interceptors.response.use(
+  (response) => response,
+  async (error) => {
+    const original = error.config;
+    if (error.response?.status !== 401 || !original || original._retried || !getTokens()) {
+      return Promise.reject(error);
+    }
+    original._retried = true;
+    try {
+      const accessToken = await authRefresh();
+      original.headers.Authorization = `Bearer ${accessToken}`;
+      return axiosInstance(original);
+    } catch {
+      clearTokens();
+      window.dispatchEvent(new Event("auth:expired"));
+      return Promise.reject(error);
+    }
+  }
+);
+
 export const generateResume = async (description) => {
   const response = await axiosInstance.post("/api/v1/resume/generate", {
     userDescription: description,
@@ -22,8 +52,11 @@ export const saveResume = async (resume) => {
   return response.data;
 };
 
-export const getResumesByUserEmail = async (userEmail) => {
-  const response = await axiosInstance.get(`/api/v1/resume/user/${encodeURIComponent(userEmail)}`);
+// Returns { items, nextCursor }; pass nextCursor back to fetch the following page.
+export const getResumesByUserEmail = async (userEmail, cursor = null, limit = 20) => {
+  const response = await axiosInstance.get(`/api/v1/resume/user/${encodeURIComponent(userEmail)}`, {
+    params: { limit, ...(cursor ? { cursor } : {}) },
+  });
   return response.data;
 };
 
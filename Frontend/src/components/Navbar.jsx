@@ -3,7 +3,7 @@ import { Link, useLocation, useNavigate } from "react-router";
 import toast from "react-hot-toast";
 import { FaDownload, FaTrash } from "react-icons/fa";
 import { useAuth } from "../context/AuthContext";
-import { getResumesByUserEmail, deleteResume } from "../api/ResumeService";
+import { getResumesByUserEmail, getResumeById, deleteResume } from "../api/ResumeService";
 import { downloadResumePdf } from "../utils/resumePdf";
 
 function Navbar() {
@@ -110,8 +110,8 @@ function Navbar() {
   const fetchUserResumes = async () => {
     try {
       setLoadingResumes(true);
-      const resumes = await getResumesByUserEmail(user.email);
-      setSavedResumes(resumes);
+      const page = await getResumesByUserEmail(user.email);
+      setSavedResumes(page.items);
     } catch {
       toast.error("Error loading resumes");
     } finally {
@@ -280,10 +280,11 @@ function Navbar() {
     }
   };
 
-  const handleDownloadPdf = (resume) => {
+  const handleDownloadPdf = async (resume) => {
     setDownloadingId(resume.id);
     try {
-      downloadResumePdf(resume, String(resume.id));
+      const fullResume = await getResumeById(resume.id);
+      downloadResumePdf(fullResume, String(resume.id));
       toast.success("PDF downloaded");
     } catch {
       toast.error("Error downloading PDF");
@@ -3,8 +3,11 @@ import {
   authForgotPassword,
   authGoogle,
   authLogin,
+  authLogout,
   authResetPassword,
   authSignup,
+  getTokens,
+  saveTokens,
 } from "../api/AuthService";
 
 const AuthContext = createContext(null);
@@ -103,18 +106,29 @@ export function AuthProvider({ children }) {
     const storedUser = readJSON(USER_KEY, null);
     const storedTemplate = readJSON(TEMPLATE_KEY, null);
 
-    if (storedUser) {
+    // A user saved before tokens existed has no session to resume.
+    if (storedUser && getTokens()) {
       setUser(storedUser);
+    } else {
+      localStorage.removeItem(USER_KEY);
     }
     if (storedTemplate) {
       setSelectedTemplate(storedTemplate);
     }
 
     setLoading(false);
+
+    const onExpired = () => {
+      setUser(null);
+      localStorage.removeItem(USER_KEY);
+    };
+    window.addEventListener("auth:expired", onExpired);
+    return () => window.removeEventListener("auth:expired", onExpired);
   }, []);
 
   const login = async (email, password) => {
     const data = await authLogin({ email, password });
+    saveTokens(data);
     const publicUser = data.user;
     setUser(publicUser);
     writeJSON(USER_KEY, publicUser);
@@ -138,6 +152,7 @@ export function AuthProvider({ children }) {
     const clientId = import.meta.env.VITE_GOOGLE_CLIENT_ID;
     const idToken = await getGoogleIdToken(clientId);
     const data = await authGoogle({ idToken });
+    saveTokens(data);
 
     const publicUser = data.user;
     setUser(publicUser);
@@ -148,6 +163,7 @@ export function AuthProvider({ children }) {
   const logout = () => {
     setUser(null);
     localStorage.removeItem(USER_KEY);
+    authLogout();
   };
 
   const selectTemplate = (template) => {
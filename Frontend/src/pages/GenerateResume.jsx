@@ -68,33 +68,24 @@ const normalizeResumeData = (raw = {}) => {
   };
 };
 
+const toSections = (data = {}) => ({
+  skills: (data.skills || []).map((skill) => skill?.title).filter(Boolean),
+  experience: (data.experience || [])
+    .filter((item) => item?.company)
+    .map((item) => ({ company: item.company, position: item.jobTitle || "", duration: item.duration || "" })),
+  education: (data.education || [])
+    .filter((item) => item?.degree)
+    .map((item) => ({ degree: item.degree, university: item.university || "", graduationYear: item.graduationYear || "" })),
+  projects: (data.projects || []).map((project) => project?.title).filter(Boolean),
+});
+
 const toPdfPayload = (data = {}) => ({
   fullName: data.personalInformation?.fullName || "",
   email: data.personalInformation?.email || "",
   phone: data.personalInformation?.phoneNumber || "",
   location: data.personalInformation?.location || "",
   summary: data.summary || "",
-  skill1: data.skills?.[0]?.title || "",
-  skill2: data.skills?.[1]?.title || "",
-  skill3: data.skills?.[2]?.title || "",
-  skill4: data.skills?.[3]?.title || "",
-  skill5: data.skills?.[4]?.title || "",
-  skill6: data.skills?.[5]?.title || "",
-  skill7: data.skills?.[6]?.title || "",
-  skill8: data.skills?.[7]?.title || "",
-  skill9: data.skills?.[8]?.title || "",
-  skill10: data.skills?.[9]?.title || "",
-  company1: data.experience?.[0]?.company || "",
-  position1: data.experience?.[0]?.jobTitle || "",
-  duration1: data.experience?.[0]?.duration || "",
-  company2: data.experience?.[1]?.company || "",
-  position2: data.experience?.[1]?.jobTitle || "",
-  duration2: data.experience?.[1]?.duration || "",
-  degree1: data.education?.[0]?.degree || "",
-  university1: data.education?.[0]?.university || "",
-  graduationYear1: data.education?.[0]?.graduationYear || "",
-  project1: data.projects?.[0]?.title || "",
-  project2: data.projects?.[1]?.title || "",
+  ...toSections(data),
 });
 
 const GenerateResume = () => {
@@ -158,27 +149,7 @@ const GenerateResume = () => {
         phone: resumeData.personalInformation?.phoneNumber || "",
         location: resumeData.personalInformation?.location || "",
         summary: resumeData.summary || "",
-        skill1: resumeData.skills?.[0]?.title || "",
-        skill2: resumeData.skills?.[1]?.title || "",
-        skill3: resumeData.skills?.[2]?.title || "",
-        skill4: resumeData.skills?.[3]?.title || "",
-        skill5: resumeData.skills?.[4]?.title || "",
-        skill6: resumeData.skills?.[5]?.title || "",
-        skill7: resumeData.skills?.[6]?.title || "",
-        skill8: resumeData.skills?.[7]?.title || "",
-        skill9: resumeData.skills?.[8]?.title || "",
-        skill10: resumeData.skills?.[9]?.title || "",
-        company1: resumeData.experience?.[0]?.company || "",
-        position1: resumeData.experience?.[0]?.jobTitle || "",
-        duration1: resumeData.experience?.[0]?.duration || "",
-        company2: resumeData.experience?.[1]?.company || "",
-        position2: resumeData.experience?.[1]?.jobTitle || "",
-        duration2: resumeData.experience?.[1]?.duration || "",
-        degree1: resumeData.education?.[0]?.degree || "",
-        university1: resumeData.education?.[0]?.university || "",
-        graduationYear1: resumeData.education?.[0]?.graduationYear || "",
-        project1: resumeData.projects?.[0]?.title || "",
-        project2: resumeData.projects?.[1]?.title || "",
+        ...toSections(resumeData),
         jobDescription: description,
         coverLetter: "",
       };
@@ -3,7 +3,7 @@ import { Link } from "react-router";
 import toast from "react-hot-toast";
 import { FaUser, FaTrash, FaDownload, FaEnvelope, FaCalendar } from "react-icons/fa";
 import { useAuth } from "../context/AuthContext";
-import { getResumesByUserEmail, deleteResume } from "../api/ResumeService";
+import { getResumesByUserEmail, getResumeById, deleteResume } from "../api/ResumeService";
 import { downloadResumePdf } from "../utils/resumePdf";
 
 function Profile() {
@@ -11,6 +11,8 @@ function Profile() {
   const [savedResumes, setSavedResumes] = useState([]);
   const [loading, setLoading] = useState(true);
   const [downloadingId, setDownloadingId] = useState(null);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [loadingMore, setLoadingMore] = useState(false);
 
   useEffect(() => {
     if (isAuthenticated) {
@@ -23,8 +25,9 @@ function Profile() {
   const fetchUserResumes = async () => {
     try {
       setLoading(true);
-      const resumes = await getResumesByUserEmail(user.email);
-      setSavedResumes(resumes);
+      const page = await getResumesByUserEmail(user.email);
+      setSavedResumes(page.items);
+      setNextCursor(page.nextCursor);
     } catch (error) {
       toast.error("Error loading resumes");
     } finally {
@@ -32,6 +35,19 @@ function Profile() {
     }
   };
 
+  const loadMoreResumes = async () => {
+    try {
+      setLoadingMore(true);
+      const page = await getResumesByUserEmail(user.email, nextCursor);
+      setSavedResumes((current) => [...current, ...page.items]);
+      setNextCursor(page.nextCursor);
+    } catch (error) {
+      toast.error("Error loading resumes");
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   const handleDeleteResume = async (id) => {
     try {
       await deleteResume(id);
@@ -42,10 +58,11 @@ function Profile() {
     }
   };
 
-  const handleDownloadPdf = (resume) => {
+  const handleDownloadPdf = async (resume) => {
     setDownloadingId(resume.id);
     try {
-      downloadResumePdf(resume, String(resume.id));
+      const fullResume = await getResumeById(resume.id);
+      downloadResumePdf(fullResume, String(resume.id));
       toast.success("PDF downloaded");
     } catch (error) {
       toast.error("Error downloading PDF");
@@ -98,9 +115,7 @@ function Profile() {
                 </p>
 
                 <div className="mt-3 text-sm text-slate-600">
-                  {resume.email && <p>Email: {resume.email}</p>}
-                  {resume.location && <p>Location: {resume.location}</p>}
-                  <p className="mt-2">Skills: {[resume.skill1, resume.skill2, resume.skill3].filter(Boolean).join(", ") || "N/A"}</p>
+                  <p>Role: {resume.jobTitle || "N/A"}</p>
                 </div>
 
                 <div className="mt-4 flex gap-2">
@@ -117,6 +132,13 @@ function Profile() {
                 </div>
               </article>
             ))}
+            {nextCursor && (
+              <div className="md:col-span-2 lg:col-span-3 flex justify-center">
+                <button onClick={loadMoreResumes} disabled={loadingMore} className="btn border-0 bg-sky-600 text-white hover:bg-sky-700">
+                  {loadingMore ? <span className="loading loading-spinner loading-xs"></span> : "Load more"}
+                </button>
+              </div>
+            )}
           </div>
         ) : (
           <div className="mt-8 rounded-2xl border border-dashed border-slate-300 bg-slate-50 p-8 text-center">
@@ -45,18 +45,7 @@ export function downloadResumePdf(resume, fileSuffix = "") {
     y += 5;
   }
 
-  const skills = [
-    resume.skill1,
-    resume.skill2,
-    resume.skill3,
-    resume.skill4,
-    resume.skill5,
-    resume.skill6,
-    resume.skill7,
-    resume.skill8,
-    resume.skill9,
-    resume.skill10,
-  ].filter(Boolean);
+  const skills = (resume.skills || []).filter(Boolean);
 
   if (skills.length > 0) {
     doc.setFontSize(14);
@@ -68,60 +57,52 @@ export function downloadResumePdf(resume, fileSuffix = "") {
     y += 5;
   }
 
-  if (resume.company1 || resume.company2) {
+  const experience = (resume.experience || []).filter((item) => item?.company);
+  if (experience.length > 0) {
     doc.setFontSize(14);
     doc.setFont("helvetica", "bold");
     y = addWrappedText("EXPERIENCE", margin, y, pageWidth - 2 * margin, 7);
 
     doc.setFontSize(10);
-    if (resume.company1) {
+    experience.forEach((item) => {
       doc.setFont("helvetica", "bold");
-      y = addWrappedText(resume.position1 || "Position", margin, y, pageWidth - 2 * margin, 5);
+      y = addWrappedText(item.position || "Position", margin, y, pageWidth - 2 * margin, 5);
       doc.setFont("helvetica", "normal");
       doc.setTextColor(14, 165, 233);
-      y = addWrappedText(resume.company1, margin, y, pageWidth - 2 * margin, 5);
+      y = addWrappedText(item.company, margin, y, pageWidth - 2 * margin, 5);
       doc.setTextColor(0, 0, 0);
-      y = addWrappedText(resume.duration1 || "", margin, y, pageWidth - 2 * margin, 5);
+      y = addWrappedText(item.duration || "", margin, y, pageWidth - 2 * margin, 5);
       y += 3;
-    }
-    if (resume.company2) {
-      doc.setFont("helvetica", "bold");
-      y = addWrappedText(resume.position2 || "Position", margin, y, pageWidth - 2 * margin, 5);
-      doc.setFont("helvetica", "normal");
-      doc.setTextColor(14, 165, 233);
-      y = addWrappedText(resume.company2, margin, y, pageWidth - 2 * margin, 5);
-      doc.setTextColor(0, 0, 0);
-      y = addWrappedText(resume.duration2 || "", margin, y, pageWidth - 2 * margin, 5);
-      y += 3;
-    }
+    });
     y += 2;
   }
 
-  if (resume.degree1) {
+  const education = (resume.education || []).filter((item) => item?.degree);
+  if (education.length > 0) {
     doc.setFontSize(14);
     doc.setFont("helvetica", "bold");
     y = addWrappedText("EDUCATION", margin, y, pageWidth - 2 * margin, 7);
     doc.setFontSize(10);
-    doc.setFont("helvetica", "bold");
-    y = addWrappedText(resume.degree1, margin, y, pageWidth - 2 * margin, 5);
-    doc.setFont("helvetica", "normal");
-    y = addWrappedText(resume.university1 || "", margin, y, pageWidth - 2 * margin, 5);
-    y = addWrappedText(resume.graduationYear1 || "", margin, y, pageWidth - 2 * margin, 5);
+    education.forEach((item) => {
+      doc.setFont("helvetica", "bold");
+      y = addWrappedText(item.degree, margin, y, pageWidth - 2 * margin, 5);
+      doc.setFont("helvetica", "normal");
+      y = addWrappedText(item.university || "", margin, y, pageWidth - 2 * margin, 5);
+      y = addWrappedText(item.graduationYear || "", margin, y, pageWidth - 2 * margin, 5);
+    });
     y += 5;
   }
 
-  if (resume.project1 || resume.project2) {
+  const projects = (resume.projects || []).filter(Boolean);
+  if (projects.length > 0) {
     doc.setFontSize(14);
     doc.setFont("helvetica", "bold");
     y = addWrappedText("PROJECTS", margin, y, pageWidth - 2 * margin, 7);
     doc.setFontSize(10);
     doc.setFont("helvetica", "normal");
-    if (resume.project1) {
-      y = addWrappedText("- " + resume.project1, margin, y, pageWidth - 2 * margin, 5);
-    }
-    if (resume.project2) {
-      y = addWrappedText("- " + resume.project2, margin, y, pageWidth - 2 * margin, 5);
-    }
+    projects.forEach((project) => {
+      y = addWrappedText("- " + project, margin, y, pageWidth - 2 * margin, 5);
+    });
   }
 
   if (resume.coverLetter) {